@@ -0,0 +1,93 @@
+package com.projectname.benchmark;
+
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.mapper.UserIdMapperImpl;
+import com.projectname.adapter.inbound.controller.mapper.UserMapper;
+import com.projectname.adapter.inbound.controller.mapper.UserMapperImpl;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaIdMapperImpl;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaMapper;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaMapperImpl;
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Shared objects for the benchmarks, wired by hand instead of through a Spring context.
+ */
+final class BenchmarkFixtures {
+
+  /**
+   * Above the {@link Long#valueOf(long)} cache, so boxing costs what it costs for real ids.
+   */
+  static final long USER_ID = 4711L;
+
+  private static final OffsetDateTime TIMESTAMP =
+      OffsetDateTime.of(2025, 1, 15, 10, 30, 0, 0, ZoneOffset.UTC);
+
+  private BenchmarkFixtures() {
+  }
+
+  static UserMapper userMapper() {
+    final var mapper = new UserMapperImpl();
+    ReflectionTestUtils.setField(mapper, "userIdMapper", new UserIdMapperImpl());
+    return mapper;
+  }
+
+  static UserJpaMapper userJpaMapper() {
+    final var mapper = new UserJpaMapperImpl();
+    ReflectionTestUtils.setField(mapper, "userJpaIdMapper", new UserJpaIdMapperImpl());
+    return mapper;
+  }
+
+  static User user() {
+    return User.builder()
+        .id(UserId.of(USER_ID))
+        .username("johndoe")
+        .email("john@example.com")
+        .createdAt(TIMESTAMP)
+        .updatedAt(TIMESTAMP)
+        .build();
+  }
+
+  static UserDto userDto() {
+    return UserDto.builder()
+        .id(USER_ID)
+        .username("johndoe")
+        .email("john@example.com")
+        .createdAt(TIMESTAMP)
+        .updatedAt(TIMESTAMP)
+        .build();
+  }
+
+  /**
+   * Stands in for persistence so a round trip measures only the in-process copies.
+   * {@code findById} returns a fresh copy of {@code stored}, as the JPA adapter would, and
+   * {@code save} assigns the next id without keeping the user. Uniqueness checks find nothing
+   * taken.
+   */
+  static UserPort inMemoryUserPort(final User stored) {
+    final var ids = new AtomicLong(stored.getId().toLong());
+    return (UserPort) Proxy.newProxyInstance(
+        UserPort.class.getClassLoader(),
+        new Class<?>[] {UserPort.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "findById" -> Optional.of(stored.toBuilder().build());
+          case "findExistingUsernames", "findExistingEmails" -> Set.of();
+          case "save" -> {
+            final var user = (User) args[0];
+            if (user.getId() == null) {
+              user.setId(UserId.of(ids.incrementAndGet()));
+            }
+            yield user;
+          }
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+  }
+}
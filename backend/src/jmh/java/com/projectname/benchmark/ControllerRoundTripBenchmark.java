@@ -0,0 +1,65 @@
+package com.projectname.benchmark;
+
+import com.projectname.adapter.inbound.controller.UserController;
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.application.service.UserChangeLog;
+import com.projectname.application.service.UserService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures a request from JSON bytes to JSON bytes through {@link UserController} and
+ * {@link UserService}, with an in-memory port in place of persistence. The difference to the
+ * sum of the {@link MappingBenchmark} stages is what the controller and service add.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ControllerRoundTripBenchmark {
+
+  private UserController controller;
+  private ObjectWriter dtoWriter;
+  private ObjectReader dtoReader;
+  private byte[] createRequest;
+
+  @Setup
+  public void setUp() {
+    final var jsonMapper = JsonMapper.builder().build();
+    final var userService = new UserService(
+        BenchmarkFixtures.inMemoryUserPort(BenchmarkFixtures.user()), new UserChangeLog());
+    controller = new UserController(userService, BenchmarkFixtures.userMapper(), jsonMapper);
+    dtoWriter = jsonMapper.writerFor(UserDto.class);
+    dtoReader = jsonMapper.readerFor(UserDto.class);
+    final var request = BenchmarkFixtures.userDto();
+    request.setId(null);
+    request.setCreatedAt(null);
+    request.setUpdatedAt(null);
+    createRequest = dtoWriter.writeValueAsBytes(request);
+  }
+
+  @Benchmark
+  public byte[] getUserById() {
+    return dtoWriter.writeValueAsBytes(controller.getUserById(BenchmarkFixtures.USER_ID, null).getBody());
+  }
+
+  @Benchmark
+  public byte[] createUser() {
+    final UserDto request = dtoReader.readValue(createRequest);
+    return dtoWriter.writeValueAsBytes(controller.createUser(request).getBody());
+  }
+}
@@ -0,0 +1,101 @@
+package com.projectname.benchmark;
+
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.mapper.UserMapper;
+import com.projectname.adapter.outbound.persistence.UserJpaEntity;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaMapper;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures each copy a user goes through on its way between HTTP and the database.
+ * Run with {@code -prof gc} to see the allocation rate per operation next to the throughput.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+  private UserMapper userMapper;
+  private UserJpaMapper userJpaMapper;
+  private ObjectWriter dtoWriter;
+  private ObjectReader dtoReader;
+
+  private UserDto dto;
+  private User user;
+  private UserJpaEntity entity;
+  private byte[] json;
+  private long nextId;
+
+  @Setup
+  public void setUp() {
+    final var jsonMapper = JsonMapper.builder().build();
+    userMapper = BenchmarkFixtures.userMapper();
+    userJpaMapper = BenchmarkFixtures.userJpaMapper();
+    dtoWriter = jsonMapper.writerFor(UserDto.class);
+    dtoReader = jsonMapper.readerFor(UserDto.class);
+    dto = BenchmarkFixtures.userDto();
+    user = BenchmarkFixtures.user();
+    entity = userJpaMapper.toJpaEntity(user);
+    json = dtoWriter.writeValueAsBytes(dto);
+    nextId = BenchmarkFixtures.USER_ID;
+  }
+
+  @Benchmark
+  public User dtoToDomain() {
+    return userMapper.toDomain(dto);
+  }
+
+  @Benchmark
+  public UserDto domainToDto() {
+    return userMapper.toDto(user);
+  }
+
+  @Benchmark
+  public UserJpaEntity domainToJpaEntity() {
+    return userJpaMapper.toJpaEntity(user);
+  }
+
+  @Benchmark
+  public User jpaEntityToDomain() {
+    return userJpaMapper.toDomain(entity);
+  }
+
+  @Benchmark
+  public UserId userIdOf() {
+    return UserId.of(nextId++);
+  }
+
+  @Benchmark
+  public User validate() {
+    user.validate();
+    return user;
+  }
+
+  @Benchmark
+  public byte[] serializeDto() {
+    return dtoWriter.writeValueAsBytes(dto);
+  }
+
+  @Benchmark
+  public UserDto deserializeDto() {
+    return dtoReader.readValue(json);
+  }
+}
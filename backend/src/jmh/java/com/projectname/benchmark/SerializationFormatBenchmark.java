@@ -0,0 +1,95 @@
+package com.projectname.benchmark;
+
+import com.projectname.adapter.config.CborConfig;
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares JSON and CBOR for a page of users as {@code listUsers} returns it: time to encode
+ * and decode, and, as the {@code payloadBytes} secondary result, the size on the wire.
+ * Run with {@code -prof gc} to compare the allocation per operation as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationFormatBenchmark {
+
+  @Param({"json", "cbor"})
+  private String format;
+
+  @Param({"1", "50"})
+  private int users;
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private List<UserDto> page;
+  private byte[] encoded;
+
+  /**
+   * Reports the encoded size of the page; JMH only picks it up for benchmarks that take it.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadSize {
+
+    public long payloadBytes;
+  }
+
+  @Setup
+  public void setUp() {
+    final ObjectMapper mapper = switch (format) {
+      case "json" -> JsonMapper.builder().build();
+      case "cbor" -> CborConfig.cborMapper();
+      default -> throw new IllegalArgumentException("Unknown format " + format);
+    };
+    page = new ArrayList<>(users);
+    for (int i = 0; i < users; i++) {
+      final var dto = BenchmarkFixtures.userDto();
+      dto.setId(BenchmarkFixtures.USER_ID + i);
+      dto.setUsername("user" + i);
+      dto.setEmail("user" + i + "@example.com");
+      page.add(dto);
+    }
+    final var type = mapper.getTypeFactory().constructCollectionType(List.class, UserDto.class);
+    writer = mapper.writerFor(type);
+    reader = mapper.readerFor(type);
+    encoded = writer.writeValueAsBytes(page);
+  }
+
+  @Setup(Level.Iteration)
+  public void reportSize(final PayloadSize size) {
+    size.payloadBytes = encoded.length;
+  }
+
+  @Benchmark
+  public byte[] serialize(final PayloadSize size) {
+    return writer.writeValueAsBytes(page);
+  }
+
+  @Benchmark
+  public List<UserDto> deserialize(final PayloadSize size) {
+    return reader.readValue(encoded);
+  }
+}
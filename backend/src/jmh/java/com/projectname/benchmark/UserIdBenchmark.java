@@ -0,0 +1,71 @@
+package com.projectname.benchmark;
+
+import com.projectname.adapter.inbound.controller.mapper.UserIdMapper;
+import com.projectname.adapter.inbound.controller.mapper.UserIdMapperImpl;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaIdMapper;
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaIdMapperImpl;
+import com.projectname.domain.value.UserId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Allocation profile of the id path a {@code getUserById} request takes. Compare
+ * {@code gc.alloc.rate.norm} under {@code -prof gc}: small ids come from the {@link UserId}
+ * cache, and hashing or comparing ids never boxes, so {@link #ofAndLookup} allocates nothing
+ * for them. The remaining boxing is where the API and JPA require a {@code Long}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserIdBenchmark {
+
+  @Param({"42", "4711"})
+  private long id;
+
+  private Long boxedId;
+  private UserIdMapper userIdMapper;
+  private UserJpaIdMapper userJpaIdMapper;
+  private Map<UserId, String> usernames;
+
+  @Setup
+  public void setUp() {
+    boxedId = id;
+    userIdMapper = new UserIdMapperImpl();
+    userJpaIdMapper = new UserJpaIdMapperImpl();
+    usernames = new HashMap<>();
+    usernames.put(UserId.of(id), "johndoe");
+  }
+
+  /**
+   * The controller turns the bound path variable into a {@link UserId} and a cache looks it up.
+   */
+  @Benchmark
+  public String ofAndLookup() {
+    return usernames.get(UserId.of(boxedId));
+  }
+
+  /**
+   * The id crosses every mapper between controller and entity and back.
+   */
+  @Benchmark
+  public Long mapperRoundTrip() {
+    final var userId = UserId.of(boxedId);
+    final var entityId = userJpaIdMapper.toLong(userId);
+    return userIdMapper.toLong(userJpaIdMapper.toUserId(entityId));
+  }
+}
@@ -0,0 +1,125 @@
+package com.projectname.benchmark;
+
+import com.projectname.ProjectNameApplication;
+import com.projectname.adapter.config.UserPortConfig;
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares the storage engines behind {@link UserPort}: the JPA adapter on in-memory H2, and
+ * the log-structured store with its default and with the {@code always} fsync policy. Each run
+ * boots the application with the engine's profile and calls the undecorated persistence bean,
+ * so neither the cache nor the other decorators are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserPortEngineBenchmark {
+
+  @Param({"jpa", "logstore", "logstore-fsync-always"})
+  private String engine;
+
+  @Param({"10000"})
+  private int users;
+
+  private Path directory;
+  private ConfigurableApplicationContext context;
+  private UserPort port;
+  private long[] ids;
+  private final AtomicLong inserted = new AtomicLong();
+
+  @Setup
+  public void setUp() throws IOException {
+    directory = Files.createTempDirectory("user-log-store");
+    final var application = new SpringApplicationBuilder(ProjectNameApplication.class)
+        .properties(
+            "server.port=0",
+            "logging.level.root=WARN",
+            "logging.level.com.projectname=WARN",
+            "logging.level.org.springframework.web=WARN",
+            "app.user-log-store.directory=" + directory);
+    context = switch (engine) {
+      case "jpa" -> application.run();
+      case "logstore" -> application.profiles("logstore").run();
+      case "logstore-fsync-always" -> application.profiles("logstore").run("--app.user-log-store.fsync=always");
+      default -> throw new IllegalArgumentException("Unknown engine " + engine);
+    };
+    port = context.getBean(UserPortConfig.PERSISTENCE, UserPort.class);
+    final List<User> seeded = new ArrayList<>(users);
+    for (int from = 0; from < users; from += 1000) {
+      final List<User> batch = new ArrayList<>();
+      for (int i = from; i < Math.min(from + 1000, users); i++) {
+        batch.add(newUser("seed" + i));
+      }
+      seeded.addAll(port.saveAll(batch));
+    }
+    ids = seeded.stream().mapToLong(user -> user.getId().toLong()).toArray();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    context.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (final Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  @Benchmark
+  public Optional<User> findById() {
+    return port.findById(UserId.of(ids[ThreadLocalRandom.current().nextInt(ids.length)]));
+  }
+
+  @Benchmark
+  public User save() {
+    return port.save(newUser("user" + inserted.incrementAndGet()));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void streamAll(final Blackhole blackhole) {
+    port.streamAll(blackhole::consume);
+  }
+
+  private static User newUser(final String username) {
+    final var now = OffsetDateTime.now();
+    return User.builder()
+        .username(username)
+        .email(username + "@example.com")
+        .createdAt(now)
+        .updatedAt(now)
+        .build();
+  }
+}
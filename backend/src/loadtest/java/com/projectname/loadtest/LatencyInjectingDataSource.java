@@ -0,0 +1,88 @@
+package com.projectname.loadtest;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that delays every statement execution by a fixed amount, standing in
+ * for the network and disk latency of a remote database while the app runs on in-memory H2.
+ *
+ * <p>The delay is a plain {@link Thread#sleep}, so a virtual thread unmounts while it waits
+ * and a platform thread stays blocked, just like a real socket read.</p>
+ */
+final class LatencyInjectingDataSource extends DelegatingDataSource {
+
+  private final long latencyNanos;
+
+  LatencyInjectingDataSource(final DataSource target, final Duration latency) {
+    super(target);
+    this.latencyNanos = latency.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrapConnection(super.getConnection());
+  }
+
+  @Override
+  public Connection getConnection(final String username, final String password) throws SQLException {
+    return wrapConnection(super.getConnection(username, password));
+  }
+
+  private Connection wrapConnection(final Connection connection) {
+    return (Connection) Proxy.newProxyInstance(
+        getClass().getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          final var result = invoke(connection, method, args);
+          if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement) {
+            return wrapStatement(statement);
+          }
+          return result;
+        });
+  }
+
+  private PreparedStatement wrapStatement(final PreparedStatement statement) {
+    return (PreparedStatement) Proxy.newProxyInstance(
+        getClass().getClassLoader(),
+        new Class<?>[] {PreparedStatement.class},
+        (proxy, method, args) -> {
+          if (method.getName().startsWith("execute")) {
+            Thread.sleep(Duration.ofNanos(latencyNanos));
+          }
+          return invoke(statement, method, args);
+        });
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Wraps the application's DataSource bean once it is fully initialized.
+   */
+  static BeanPostProcessor postProcessor(final Duration latency) {
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof LatencyInjectingDataSource)) {
+          return new LatencyInjectingDataSource(dataSource, latency);
+        }
+        return bean;
+      }
+    };
+  }
+}
@@ -0,0 +1,126 @@
+package com.projectname.loadtest;
+
+import com.projectname.ProjectNameApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Boots the real application on a random port and an isolated in-memory H2 database, and
+ * offers the HTTP plumbing the load tests share.
+ */
+final class LoadTestApplication implements AutoCloseable {
+
+  private static final int SEED_BATCH_SIZE = 1000;
+
+  private final ConfigurableApplicationContext context;
+  private final URI baseUri;
+  private final HttpClient httpClient;
+  private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+  private LoadTestApplication(final ConfigurableApplicationContext context, final int port) {
+    this.context = context;
+    this.baseUri = URI.create("http://127.0.0.1:" + port);
+    this.httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+  }
+
+  /**
+   * Starts the application.
+   *
+   * @param name unique name for this run, used for the H2 database
+   * @param overrides extra Spring properties, applied with command-line precedence
+   * @param dbLatency artificial delay added to every SQL statement, or zero for none
+   */
+  static LoadTestApplication start(
+      final String name, final Map<String, Object> overrides, final Duration dbLatency) {
+    final Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("server.port", 0);
+    properties.put("spring.datasource.url", "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+    properties.put("spring.h2.console.enabled", false);
+    properties.put("logging.level.root", "WARN");
+    properties.put("logging.level.com.projectname", "WARN");
+    properties.put("logging.level.org.springframework.web", "WARN");
+    properties.put("logging.level.org.springframework.boot.web.servlet.error", "WARN");
+    properties.putAll(overrides);
+
+    final var builder = new SpringApplicationBuilder(ProjectNameApplication.class)
+        .bannerMode(Banner.Mode.OFF);
+    if (!dbLatency.isZero()) {
+      builder.initializers(context ->
+          context.getBeanFactory().addBeanPostProcessor(LatencyInjectingDataSource.postProcessor(dbLatency)));
+    }
+    final var args = properties.entrySet().stream()
+        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+        .toArray(String[]::new);
+    final var context = builder.run(args);
+    final var port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+    return new LoadTestApplication(context, port);
+  }
+
+  URI uri(final String path) {
+    return baseUri.resolve(path);
+  }
+
+  HttpClient httpClient() {
+    return httpClient;
+  }
+
+  JsonMapper jsonMapper() {
+    return jsonMapper;
+  }
+
+  MeterRegistry meterRegistry() {
+    return context.getBean(MeterRegistry.class);
+  }
+
+  /**
+   * Creates {@code count} users through the batch endpoint and returns their ids.
+   */
+  long[] seedUsers(final int count) throws IOException, InterruptedException {
+    final List<Long> ids = new ArrayList<>(count);
+    for (int offset = 0; offset < count; offset += SEED_BATCH_SIZE) {
+      final var batch = new ArrayList<Map<String, String>>();
+      for (int i = offset; i < Math.min(count, offset + SEED_BATCH_SIZE); i++) {
+        batch.add(Map.of("username", "load-user-" + i, "email", "load-user-" + i + "@example.com"));
+      }
+      final var request = HttpRequest.newBuilder(uri("/api/users:batch"))
+          .header("Content-Type", "application/json")
+          .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(batch)))
+          .build();
+      final var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      if (response.statusCode() != 200) {
+        throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+      }
+      for (final var item : jsonMapper.readTree(response.body()).get("items")) {
+        final var id = item.path("user").path("id");
+        if (id.isNumber()) {
+          ids.add(id.asLong());
+        }
+      }
+    }
+    return ids.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+    context.close();
+  }
+}
@@ -0,0 +1,288 @@
+package com.projectname.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Open-loop load generator for the users API.
+ *
+ * <p>Requests are started on a fixed schedule of {@code load.rate} per second, whether or not
+ * earlier requests have finished. The operation of each request is drawn from the
+ * {@code load.mix} weights. Each request runs on its own virtual thread, so a slow server
+ * can't slow down the schedule.</p>
+ *
+ * <p>Latency is measured from the moment a request was <em>supposed</em> to start, not from
+ * when it was actually sent. If the generator falls behind (a GC pause, a full connection
+ * queue), the wait is counted against the server rather than silently dropped. This corrects
+ * for coordinated omission. The uncorrected service time is recorded as well, for comparison.</p>
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java \
+ *     -Dloadtest.main=com.projectname.loadtest.OpenLoopLoadTest \
+ *     -Dload.rate=2000 -Dload.duration-seconds=60 \
+ *     -Dload.mix=getUserById=60,listUsers=20,createUser=10,updateUser=5,deleteUser=5
+ * </pre>
+ *
+ * <p>A summary is printed, and {@code target/loadtest/open-loop.json} plus one
+ * {@code .hgrm} percentile distribution per operation are written for plotting.</p>
+ */
+public final class OpenLoopLoadTest {
+
+  private static final String DEFAULT_MIX =
+      "getUserById=60,listUsers=20,createUser=10,updateUser=5,deleteUser=5";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final int LIST_PAGE_SIZE = 50;
+
+  /**
+   * Operations of the users API, named after their OpenAPI operation ids.
+   */
+  enum Operation {
+    listUsers, getUserById, createUser, updateUser, deleteUser
+  }
+
+  /**
+   * Latency percentiles of one operation, in milliseconds.
+   */
+  record OperationResult(
+      String operation,
+      long requests,
+      long errors,
+      double p50Millis,
+      double p90Millis,
+      double p99Millis,
+      double p999Millis,
+      double maxMillis,
+      double uncorrectedP99Millis,
+      double uncorrectedMaxMillis) {
+  }
+
+  private final LoadTestApplication app;
+  private final long[] seededIds;
+  private final Operation[] operations;
+  private final int[] cumulativeWeights;
+  private final AtomicLong uniqueSuffix = new AtomicLong();
+  private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+  private final Map<Operation, Histogram> corrected = new EnumMap<>(Operation.class);
+  private final Map<Operation, Histogram> uncorrected = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+  private OpenLoopLoadTest(final LoadTestApplication app, final long[] seededIds, final Map<Operation, Integer> mix) {
+    this.app = app;
+    this.seededIds = seededIds;
+    this.operations = mix.keySet().toArray(Operation[]::new);
+    this.cumulativeWeights = new int[operations.length];
+    int total = 0;
+    for (int i = 0; i < operations.length; i++) {
+      total += mix.get(operations[i]);
+      cumulativeWeights[i] = total;
+    }
+    for (final var operation : Operation.values()) {
+      corrected.put(operation, new ConcurrentHistogram(3));
+      uncorrected.put(operation, new ConcurrentHistogram(3));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final int rate = Integer.getInteger("load.rate", 500);
+    if (rate <= 0 || rate > 1_000_000) {
+      throw new IllegalArgumentException("load.rate must be between 1 and 1000000 requests per second");
+    }
+    final var warmup = Duration.ofSeconds(Integer.getInteger("load.warmup-seconds", 10));
+    final var duration = Duration.ofSeconds(Integer.getInteger("load.duration-seconds", 60));
+    final var dbLatency = Duration.ofMillis(Integer.getInteger("load.db-latency-ms", 0));
+    final int users = Integer.getInteger("load.users", 10_000);
+    final var mix = parseMix(System.getProperty("load.mix", DEFAULT_MIX));
+    final var output = Path.of(System.getProperty("load.output-dir", "target/loadtest"));
+    final Map<String, Object> properties = Map.of(
+        "spring.threads.virtual.enabled", Boolean.getBoolean("load.virtual-threads"));
+
+    try (var app = LoadTestApplication.start("open-loop", properties, dbLatency)) {
+      final var loadTest = new OpenLoopLoadTest(app, app.seedUsers(users), mix);
+      loadTest.run(rate, warmup, false);
+      loadTest.run(rate, duration, true);
+      loadTest.report(System.out, output);
+    }
+  }
+
+  /**
+   * Parses {@code name=weight} pairs such as {@code getUserById=80,createUser=20}.
+   */
+  static Map<Operation, Integer> parseMix(final String mix) {
+    final Map<Operation, Integer> weights = new LinkedHashMap<>();
+    for (final var entry : mix.split(",")) {
+      final var parts = entry.trim().split("=");
+      if (parts.length != 2) {
+        throw new IllegalArgumentException("Expected name=weight but got '" + entry + "'");
+      }
+      final int weight = Integer.parseInt(parts[1].trim());
+      if (weight < 0) {
+        throw new IllegalArgumentException("Weight of " + parts[0] + " must not be negative");
+      }
+      if (weight > 0) {
+        weights.put(Operation.valueOf(parts[0].trim()), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Mix must contain at least one operation with a positive weight");
+    }
+    return weights;
+  }
+
+  /**
+   * Starts requests at a fixed rate for the given duration, then waits for the stragglers.
+   */
+  private void run(final int rate, final Duration duration, final boolean record) {
+    final long intervalNanos = 1_000_000_000L / rate;
+    final long total = duration.toNanos() / intervalNanos;
+    final long start = System.nanoTime();
+    try (var requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long i = 0; i < total; i++) {
+        final long intendedStart = start + i * intervalNanos;
+        long wait;
+        while ((wait = intendedStart - System.nanoTime()) > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        final var operation = nextOperation();
+        requests.execute(() -> execute(operation, intendedStart, record));
+      }
+    }
+  }
+
+  private Operation nextOperation() {
+    final int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (pick < cumulativeWeights[i]) {
+        return operations[i];
+      }
+    }
+    throw new IllegalStateException("Unreachable");
+  }
+
+  private void execute(final Operation operation, final long intendedStart, final boolean record) {
+    final long actualStart = System.nanoTime();
+    boolean success;
+    try {
+      success = send(operation);
+    } catch (IOException e) {
+      success = false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    final long end = System.nanoTime();
+    if (record) {
+      corrected.get(operation).recordValue(end - intendedStart);
+      uncorrected.get(operation).recordValue(end - actualStart);
+      if (!success) {
+        errors.get(operation).increment();
+      }
+    }
+  }
+
+  private boolean send(final Operation operation) throws IOException, InterruptedException {
+    final var random = ThreadLocalRandom.current();
+    final var seededId = seededIds[random.nextInt(seededIds.length)];
+    return switch (operation) {
+      case listUsers -> ok(get("/api/users?after=" + seededId + "&limit=" + LIST_PAGE_SIZE));
+      case getUserById -> ok(get("/api/users/" + seededId));
+      case createUser -> {
+        final var response = app.httpClient().send(
+            request("/api/users").POST(body(nextUser())).build(),
+            HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+          yield false;
+        }
+        createdIds.add(app.jsonMapper().readTree(response.body()).get("id").asLong());
+        yield true;
+      }
+      case updateUser -> ok(app.httpClient().send(
+          request("/api/users/" + seededId).PUT(body(nextUser())).build(),
+          HttpResponse.BodyHandlers.discarding()));
+      case deleteUser -> {
+        // Only delete users this run created, so reads of seeded users keep finding them.
+        final var id = createdIds.poll();
+        yield id == null || ok(app.httpClient().send(
+            request("/api/users/" + id).DELETE().build(),
+            HttpResponse.BodyHandlers.discarding()));
+      }
+    };
+  }
+
+  private HttpResponse<Void> get(final String path) throws IOException, InterruptedException {
+    return app.httpClient().send(request(path).GET().build(), HttpResponse.BodyHandlers.discarding());
+  }
+
+  private HttpRequest.Builder request(final String path) {
+    return HttpRequest.newBuilder(app.uri(path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json");
+  }
+
+  private HttpRequest.BodyPublisher body(final Map<String, String> user) {
+    return HttpRequest.BodyPublishers.ofString(app.jsonMapper().writeValueAsString(user));
+  }
+
+  private Map<String, String> nextUser() {
+    final var name = "open-loop-" + uniqueSuffix.incrementAndGet();
+    return Map.of("username", name, "email", name + "@example.com");
+  }
+
+  private static boolean ok(final HttpResponse<?> response) {
+    return response.statusCode() / 100 == 2;
+  }
+
+  private void report(final PrintStream out, final Path output) throws IOException {
+    Files.createDirectories(output);
+    final List<OperationResult> results = new ArrayList<>();
+    out.printf("%n%-12s %10s %8s %10s %10s %10s %10s %10s %14s%n",
+        "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "raw p99 ms");
+    for (final var operation : operations) {
+      final var histogram = corrected.get(operation);
+      final var raw = uncorrected.get(operation);
+      final var result = new OperationResult(
+          operation.name(),
+          histogram.getTotalCount(),
+          errors.get(operation).sum(),
+          millis(histogram.getValueAtPercentile(50)),
+          millis(histogram.getValueAtPercentile(90)),
+          millis(histogram.getValueAtPercentile(99)),
+          millis(histogram.getValueAtPercentile(99.9)),
+          millis(histogram.getMaxValue()),
+          millis(raw.getValueAtPercentile(99)),
+          millis(raw.getMaxValue()));
+      results.add(result);
+      out.printf("%-12s %10d %8d %10.2f %10.2f %10.2f %10.2f %10.2f %14.2f%n",
+          result.operation(), result.requests(), result.errors(), result.p50Millis(), result.p90Millis(),
+          result.p99Millis(), result.p999Millis(), result.maxMillis(), result.uncorrectedP99Millis());
+      try (var hgrm = new PrintStream(Files.newOutputStream(output.resolve("open-loop-" + operation + ".hgrm")))) {
+        histogram.outputPercentileDistribution(hgrm, 1_000_000.0);
+      }
+    }
+    Files.writeString(output.resolve("open-loop.json"),
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(results));
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -0,0 +1,152 @@
+package com.projectname.loadtest;
+
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares platform-thread and virtual-thread request handling under database latency.
+ *
+ * <p>Each mode boots a fresh application with the same settings. The only difference is
+ * {@code spring.threads.virtual.enabled}. The app is seeded, warmed up, and then
+ * {@code bench.concurrency} closed-loop clients call {@code GET /api/users/{id}} for
+ * {@code bench.duration-seconds}. Every SQL statement is delayed by {@code bench.db-latency-ms}.
+ * With platform threads, in-flight requests are capped by Tomcat's worker pool (200 by
+ * default). With virtual threads, the cap is the JDBC pool ({@code bench.pool-size}).</p>
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:java \
+ *     -Dloadtest.main=com.projectname.loadtest.ThreadModeBenchmark \
+ *     -Dbench.concurrency=1000 -Dbench.duration-seconds=30 -Dbench.db-latency-ms=20
+ * </pre>
+ *
+ * <p>Results are printed and written to {@code target/loadtest/thread-modes.json}.</p>
+ */
+public final class ThreadModeBenchmark {
+
+  private ThreadModeBenchmark() {
+  }
+
+  /**
+   * Outcome of one thread mode.
+   */
+  record ModeResult(
+      String mode,
+      long requests,
+      long errors,
+      double throughputPerSecond,
+      double p50Millis,
+      double p99Millis,
+      double p999Millis,
+      double maxMillis,
+      long pinnedEvents) {
+  }
+
+  public static void main(final String[] args) throws Exception {
+    final int concurrency = Integer.getInteger("bench.concurrency", 1000);
+    final var warmup = Duration.ofSeconds(Integer.getInteger("bench.warmup-seconds", 10));
+    final var duration = Duration.ofSeconds(Integer.getInteger("bench.duration-seconds", 30));
+    final var dbLatency = Duration.ofMillis(Integer.getInteger("bench.db-latency-ms", 20));
+    final int users = Integer.getInteger("bench.users", 10_000);
+    final int poolSize = Integer.getInteger("bench.pool-size", 400);
+
+    final List<ModeResult> results = new ArrayList<>();
+    for (final var mode : List.of("platform", "virtual")) {
+      final Map<String, Object> properties = Map.of(
+          "spring.threads.virtual.enabled", mode.equals("virtual"),
+          "spring.datasource.hikari.maximum-pool-size", poolSize,
+          "app.user-cache.enabled", false);
+      try (var app = LoadTestApplication.start("thread-mode-" + mode, properties, dbLatency)) {
+        final var ids = app.seedUsers(users);
+        run(app, ids, concurrency, warmup);
+        final var histogram = new ConcurrentHistogram(3);
+        final var errors = new LongAdder();
+        final var requests = run(app, ids, concurrency, duration, histogram, errors);
+        results.add(new ModeResult(
+            mode,
+            requests,
+            errors.sum(),
+            (requests - errors.sum()) / (duration.toNanos() / 1e9),
+            millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()),
+            app.meterRegistry().find("app.virtual.threads.pinned").timers().stream()
+                .mapToLong(Timer::count)
+                .sum()));
+      }
+    }
+
+    System.out.printf("%n%-10s %12s %8s %12s %10s %10s %10s %10s %8s%n",
+        "mode", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "pinned");
+    for (final var result : results) {
+      System.out.printf("%-10s %12d %8d %12.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+          result.mode(), result.requests(), result.errors(), result.throughputPerSecond(),
+          result.p50Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis(),
+          result.pinnedEvents());
+    }
+    final var output = Path.of(System.getProperty("bench.output-dir", "target/loadtest"));
+    Files.createDirectories(output);
+    Files.writeString(output.resolve("thread-modes.json"),
+        JsonMapper.builder().build().writerWithDefaultPrettyPrinter().writeValueAsString(results));
+  }
+
+  private static void run(final LoadTestApplication app, final long[] ids, final int concurrency,
+      final Duration duration) throws InterruptedException {
+    run(app, ids, concurrency, duration, new ConcurrentHistogram(3), new LongAdder());
+  }
+
+  private static long run(
+      final LoadTestApplication app,
+      final long[] ids,
+      final int concurrency,
+      final Duration duration,
+      final Histogram histogram,
+      final LongAdder errors) throws InterruptedException {
+    final var requests = new LongAdder();
+    final var deadline = System.nanoTime() + duration.toNanos();
+    try (var clients = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int c = 0; c < concurrency; c++) {
+        clients.submit(() -> {
+          final var random = ThreadLocalRandom.current();
+          while (System.nanoTime() < deadline) {
+            final var id = ids[random.nextInt(ids.length)];
+            final var request = HttpRequest.newBuilder(app.uri("/api/users/" + id)).GET().build();
+            final var start = System.nanoTime();
+            try {
+              final var response = app.httpClient().send(request, HttpResponse.BodyHandlers.discarding());
+              if (response.statusCode() != 200) {
+                errors.increment();
+              }
+            } catch (IOException e) {
+              errors.increment();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              return;
+            }
+            histogram.recordValue(System.nanoTime() - start);
+            requests.increment();
+          }
+        });
+      }
+    }
+    return requests.sum();
+  }
+
+  private static double millis(final long nanos) {
+    return nanos / 1_000_000.0;
+  }
+}
@@ -3,12 +3,43 @@ package com.projectname;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.Environment;
 
 @SpringBootApplication
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ProjectNameApplication {
+
+  static final String IMPORT_FILE_PROPERTY = "app.user-import.file";
+
   static void main(final String[] args) {
-    SpringApplication.run(ProjectNameApplication.class, args);
+    final var application = new SpringApplication(ProjectNameApplication.class);
+    application.addListeners(new ImportModeListener());
+    final var context = application.run(args);
+    if (isImportMode(context.getEnvironment())) {
+      // Bulk import mode (see UserImportRunner): the file was loaded during startup, so exit.
+      System.exit(SpringApplication.exit(context));
+    }
+  }
+
+  private static boolean isImportMode(final Environment environment) {
+    return environment.containsProperty(IMPORT_FILE_PROPERTY);
+  }
+
+  /**
+   * Starts without a web server when the import file is set, whether by argument, environment
+   * variable or configuration file.
+   */
+  static final class ImportModeListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    @Override
+    public void onApplicationEvent(final ApplicationEnvironmentPreparedEvent event) {
+      if (isImportMode(event.getEnvironment())) {
+        event.getSpringApplication().setWebApplicationType(WebApplicationType.NONE);
+      }
+    }
   }
 }
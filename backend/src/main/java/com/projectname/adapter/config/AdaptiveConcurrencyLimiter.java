@@ -0,0 +1,103 @@
+package com.projectname.adapter.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit of one route group that adapts to latency (additive increase,
+ * multiplicative decrease).
+ *
+ * <p>Each request that completes within {@code latencyThreshold} while the limit is in use
+ * raises the limit by {@code 1 / limit}, i.e. by one per limit's worth of requests. A slower
+ * or failed request multiplies it by {@code backoffRatio}, at most once per threshold, so a
+ * burst of slow responses to the same overload counts as one signal. A request beyond the
+ * limit is rejected at once instead of queueing behind the slow ones.</p>
+ */
+final class AdaptiveConcurrencyLimiter {
+
+    private final String group;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+    private long lastDecrease;
+
+    AdaptiveConcurrencyLimiter(
+            final String group,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final Duration latencyThreshold,
+            final double backoffRatio,
+            final MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limits of " + group + " must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1 exclusive");
+        }
+        this.group = group;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.lastDecrease = System.nanoTime() - latencyThresholdNanos;
+        Gauge.builder("app.concurrency.limit", this, limiter -> Math.floor(limiter.limit))
+                .description("Current adaptive concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("app.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .tag("group", group)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("app.concurrency.rejected")
+                .description("Requests rejected with 503 because the concurrency limit was reached")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    String group() {
+        return group;
+    }
+
+    /**
+     * Admits a request if fewer than the current limit are in flight; every admitted request
+     * must be passed to {@link #release(long, boolean)}.
+     */
+    boolean tryAcquire() {
+        while (true) {
+            final int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release(final long latencyNanos, final boolean failed) {
+        final int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                final long now = System.nanoTime();
+                if (now - lastDecrease > latencyThresholdNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecrease = now;
+                }
+            } else if (current * 2 >= limit) {
+                // Only grow while at least half the limit is used; an idle limit proves nothing.
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+}
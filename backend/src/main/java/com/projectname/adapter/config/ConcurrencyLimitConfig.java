@@ -0,0 +1,42 @@
+package com.projectname.adapter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Puts an adaptive concurrency limit in front of the API routes listed in
+ * {@code app.concurrency-limit.groups}. Requests over a group's limit are answered with 503
+ * and {@code Retry-After} by {@link GlobalExceptionHandler}.
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(final ConcurrencyLimitProperties properties, final MeterRegistry meterRegistry) {
+        final Map<String, AdaptiveConcurrencyLimiter> limitersByRoute = new HashMap<>();
+        properties.groups().forEach((name, group) -> {
+            final var limiter = new AdaptiveConcurrencyLimiter(name, group.initialLimit(), group.minLimit(),
+                    group.maxLimit(), group.latencyThreshold(), properties.backoffRatio(), meterRegistry);
+            for (final var route : group.routes()) {
+                if (limitersByRoute.put(route.strip(), limiter) != null) {
+                    throw new IllegalArgumentException("Route " + route + " belongs to more than one group");
+                }
+            }
+        });
+        this.interceptor = new ConcurrencyLimitInterceptor(limitersByRoute, properties.retryAfter());
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,19 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a request is shed by the concurrency limiter of its route group. It carries no
+ * stack trace: it is thrown at high rates exactly when the server is overloaded.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(final String group, final Duration retryAfter) {
+        super("Concurrency limit of " + group + " reached", null, false, false);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,56 @@
+package com.projectname.adapter.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Admits requests through the {@link AdaptiveConcurrencyLimiter} of their route group, keyed
+ * by method and mapped pattern such as {@code GET /api/users/{id}}. Requests of routes that
+ * belong to no group pass unlimited.
+ */
+final class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limitersByRoute;
+    private final Duration retryAfter;
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+
+    ConcurrencyLimitInterceptor(final Map<String, AdaptiveConcurrencyLimiter> limitersByRoute, final Duration retryAfter) {
+        this.limitersByRoute = Map.copyOf(limitersByRoute);
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public boolean preHandle(
+            final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        final var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final var limiter = route == null ? null : limitersByRoute.get(request.getMethod() + " " + route);
+        if (limiter == null) {
+            return true;
+        }
+        if (!limiter.tryAcquire()) {
+            throw new ConcurrencyLimitExceededException(limiter.group(), retryAfter);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final Object handler,
+            final Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.limiter().release(System.nanoTime() - permit.startNanos(), ex != null || response.getStatus() >= 500);
+        }
+    }
+}
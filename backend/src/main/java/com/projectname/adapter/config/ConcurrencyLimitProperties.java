@@ -0,0 +1,48 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for shedding load per route group ({@code app.concurrency-limit.*}).
+ *
+ * @param enabled whether {@link ConcurrencyLimitConfig} registers the limiter
+ * @param retryAfter value of the {@code Retry-After} header on rejected requests
+ * @param backoffRatio factor applied to a group's limit when its requests get slow or fail
+ * @param groups route groups by name, each with a limit of its own
+ */
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public record ConcurrencyLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1s") Duration retryAfter,
+    @DefaultValue("0.9") double backoffRatio,
+    Map<String, Group> groups) {
+
+  public ConcurrencyLimitProperties {
+    groups = groups == null ? Map.of() : Map.copyOf(groups);
+  }
+
+  /**
+   * One route group.
+   *
+   * @param routes the routes as {@code METHOD pattern}, with patterns as mapped in openapi.yml
+   * @param initialLimit concurrent requests admitted before any latency was observed
+   * @param minLimit lowest the limit may drop to
+   * @param maxLimit highest the limit may grow to
+   * @param latencyThreshold responses slower than this lower the limit
+   */
+  public record Group(
+      List<String> routes,
+      @DefaultValue("20") int initialLimit,
+      @DefaultValue("1") int minLimit,
+      @DefaultValue("200") int maxLimit,
+      @DefaultValue("100ms") Duration latencyThreshold) {
+
+    public Group {
+      routes = routes == null ? List.of() : List.copyOf(routes);
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.persistence.ReadReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Wraps the auto-configured {@link DataSource} in a {@link LazyConnectionDataSourceProxy}.
+ *
+ * <p>Connections are only taken from the pool once a transaction runs its first statement, so
+ * read-only transactions served entirely from the user cache never touch the pool. When
+ * {@code app.read-replicas.enabled} is set, transactions marked read-only (the query methods of
+ * {@code UserService}) get their connection from a {@link ReadReplicaDataSource}; everything else
+ * keeps using the primary.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    static RoutingPostProcessor dataSourceRoutingPostProcessor(
+            final ObjectProvider<ReadReplicaProperties> properties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RoutingPostProcessor(properties, meterRegistry);
+    }
+
+    /**
+     * Wraps the {@code dataSource} bean once it is initialized. Its own dependencies are looked
+     * up lazily, since post-processors are created before regular beans.
+     */
+    static final class RoutingPostProcessor implements BeanPostProcessor, DisposableBean {
+
+        private final ObjectProvider<ReadReplicaProperties> properties;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private ReadReplicaDataSource replicas;
+
+        RoutingPostProcessor(
+                final ObjectProvider<ReadReplicaProperties> properties,
+                final ObjectProvider<MeterRegistry> meterRegistry) {
+            this.properties = properties;
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+            if (!(bean instanceof DataSource primary) || !"dataSource".equals(beanName)) {
+                return bean;
+            }
+            final var proxy = new LazyConnectionDataSourceProxy(primary);
+            final var settings = properties.getObject();
+            if (settings.enabled() && !settings.instances().isEmpty()) {
+                replicas = readReplicas(primary, settings, meterRegistry.getObject());
+                proxy.setReadOnlyDataSource(replicas);
+            }
+            return proxy;
+        }
+
+        private static ReadReplicaDataSource readReplicas(
+                final DataSource primary, final ReadReplicaProperties settings, final MeterRegistry meterRegistry) {
+            final Map<String, DataSource> pools = new LinkedHashMap<>();
+            for (int i = 0; i < settings.instances().size(); i++) {
+                final var instance = settings.instances().get(i);
+                final var pool = new HikariDataSource();
+                pool.setPoolName("replica-" + i);
+                pool.setJdbcUrl(instance.url());
+                pool.setUsername(instance.username());
+                pool.setPassword(instance.password());
+                pool.setReadOnly(true);
+                pool.setMaximumPoolSize(settings.poolSize());
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+                pools.put(pool.getPoolName(), pool);
+            }
+            return new ReadReplicaDataSource(primary, pools, settings.maxLag(), settings.lagQuery(),
+                    settings.checkInterval(), meterRegistry);
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            if (replicas != null) {
+                replicas.close();
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.projectname.adapter.config;
 
 import com.projectname.domain.exception.DomainException;
+import com.projectname.domain.exception.DuplicateUserException;
 import com.projectname.domain.exception.ResourceNotFoundException;
+import com.projectname.domain.exception.VersionConflictException;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -10,12 +12,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 /**
  * Global exception handler for the application.
@@ -44,6 +49,46 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
   }
 
+  /**
+   * Handles VersionConflictException from conditional or concurrent writes.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with 412 status
+   */
+  @ExceptionHandler(VersionConflictException.class)
+  @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+  public ResponseEntity<ErrorResponse> handleVersionConflict(
+      VersionConflictException ex, WebRequest request) {
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .status(HttpStatus.PRECONDITION_FAILED.value())
+            .message(ex.getMessage())
+            .timestamp(OffsetDateTime.now())
+            .build();
+    return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+  }
+
+  /**
+   * Handles DuplicateUserException from a taken username or email.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with 409 status
+   */
+  @ExceptionHandler(DuplicateUserException.class)
+  @ResponseStatus(HttpStatus.CONFLICT)
+  public ResponseEntity<ErrorResponse> handleDuplicateUser(
+      DuplicateUserException ex, WebRequest request) {
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .status(HttpStatus.CONFLICT.value())
+            .message(ex.getMessage())
+            .timestamp(OffsetDateTime.now())
+            .build();
+    return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+  }
+
   /**
    * Handles DomainException.
    *
@@ -84,6 +129,50 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
   }
 
+  /**
+   * Handles bean validation failures of request parameters and bodies declared in openapi.yml.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with 400 status
+   */
+  @ExceptionHandler({HandlerMethodValidationException.class, MethodArgumentNotValidException.class})
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  public ResponseEntity<ErrorResponse> handleRequestValidation(
+      Exception ex, WebRequest request) {
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .status(HttpStatus.BAD_REQUEST.value())
+            .message("Request validation failed")
+            .timestamp(OffsetDateTime.now())
+            .build();
+    return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+  }
+
+  /**
+   * Handles requests shed by the concurrency limiter. The response is cheap on purpose: the
+   * server is overloaded, and the client is told when to retry.
+   *
+   * @param ex the exception
+   * @param request the web request
+   * @return error response with 503 status and a Retry-After header
+   */
+  @ExceptionHandler(ConcurrencyLimitExceededException.class)
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(
+      ConcurrencyLimitExceededException ex, WebRequest request) {
+    ErrorResponse error =
+        ErrorResponse.builder()
+            .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .message(ex.getMessage())
+            .timestamp(OffsetDateTime.now())
+            .build();
+    long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+        .body(error);
+  }
+
   /**
    * Handles generic exceptions.
    *
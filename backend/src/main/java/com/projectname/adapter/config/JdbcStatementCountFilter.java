@@ -0,0 +1,68 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.persistence.StatementCountingInspector;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each API request issued, as {@code app.http.jdbc.statements}
+ * tagged by route, method and outcome. Statements issued on other threads, such as those of a
+ * streamed export, are not attributed to the request.
+ */
+@Component
+@RequiredArgsConstructor
+public class JdbcStatementCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            final HttpServletRequest request,
+            final HttpServletResponse response,
+            final FilterChain filterChain) throws ServletException, IOException {
+        StatementCountingInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            final var statements = StatementCountingInspector.reset();
+            final var route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("app.http.jdbc.statements")
+                    .description("SQL statements prepared per API request")
+                    .baseUnit("statements")
+                    .tag("uri", route == null ? "UNKNOWN" : route.toString())
+                    .tag("method", request.getMethod())
+                    .tag("outcome", outcome(response.getStatus()))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    /**
+     * Same outcome tags as {@link TimedProxy}, plus {@code rejected} for requests shed by the
+     * concurrency limit.
+     */
+    private static String outcome(final int status) {
+        return switch (status) {
+            case 400 -> "validation_error";
+            case 404 -> "not_found";
+            case 409, 412 -> "conflict";
+            case 503 -> "rejected";
+            default -> status < 400 ? "ok" : "error";
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for routing read-only transactions to replicas ({@code app.read-replicas.*}).
+ *
+ * @param enabled whether read-only transactions go to the replicas
+ * @param instances the replica databases
+ * @param poolSize maximum connections per replica pool
+ * @param maxLag replicas lagging further behind than this are skipped until they catch up
+ * @param lagQuery SQL run on each replica that returns its lag in milliseconds; if unset,
+ *     replicas are only checked for liveness and assumed to be current
+ * @param checkInterval how often liveness and lag are checked
+ */
+@ConfigurationProperties(prefix = "app.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue List<Instance> instances,
+    @DefaultValue("10") int poolSize,
+    @DefaultValue("5s") Duration maxLag,
+    String lagQuery,
+    @DefaultValue("1s") Duration checkInterval) {
+
+  /**
+   * Connection settings of one replica.
+   */
+  public record Instance(String url, String username, String password) {
+  }
+}
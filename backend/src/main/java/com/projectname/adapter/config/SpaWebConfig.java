@@ -1,22 +1,173 @@
 package com.projectname.adapter.config;
 
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
 
 /**
  * Configures Spring MVC to serve the Angular SPA from /ui/ and redirect the root path.
  *
- * <p>Static files in {@code classpath:/static/ui/} (JS, CSS, images, etc.) are served
- * automatically by Spring Boot's default resource handling and take precedence over
- * the forwarding rules below.</p>
+ * <p>Files from {@code classpath:/static/ui/} are served through a resource chain that picks
+ * the {@code .br} or {@code .gz} variant written at build time when the client accepts it.
+ * The chain for the fingerprinted bundles caches resolved resources, so their file lookups
+ * happen once per path and encoding. The {@code /ui/**} chain does not cache: it answers every
+ * path without an extension, so its cache would grow with each path a client cares to ask for.</p>
+ *
+ * <p>The bundles Angular fingerprints ({@code main-<hash>.js}, {@code styles-<hash>.css},
+ * {@code media/}) never change under their name and are cached for a year as
+ * {@code immutable}. Everything else, {@code index.html} in particular, is revalidated on each
+ * use so a new deployment is picked up at once.</p>
+ *
+ * <p>Paths without a file extension are Angular client-side routes and are answered with
+ * {@code index.html}, which is read once at startup and served from memory.</p>
  */
 @Configuration
 public class SpaWebConfig implements WebMvcConfigurer {
 
+    private static final String LOCATION = "classpath:/static/ui/";
+    private static final String INDEX = "static/ui/index.html";
+    private static final String[] FINGERPRINTED = {"/ui/*-*.js", "/ui/*-*.css", "/ui/media/**"};
+
+    private final InMemoryResource index = InMemoryResource.load(INDEX);
+
     @Override
     public void addViewControllers(final ViewControllerRegistry registry) {
         // Redirect root to the Angular app
         registry.addRedirectViewController("/", "/ui/");
     }
+
+    @Override
+    public void addResourceHandlers(final ResourceHandlerRegistry registry) {
+        registry.addResourceHandler(FINGERPRINTED)
+                .addResourceLocations(LOCATION)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new PathResourceResolver());
+        registry.addResourceHandler("/ui", "/ui/**")
+                .addResourceLocations(LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(false)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new ClientRouteResolver());
+    }
+
+    /**
+     * Resolves files like {@link PathResourceResolver} and answers paths without a file
+     * extension, the Angular routes, with the in-memory {@code index.html}.
+     */
+    private final class ClientRouteResolver extends PathResourceResolver {
+
+        @Override
+        protected Resource resolveResourceInternal(
+                final HttpServletRequest request,
+                final String requestPath,
+                final List<? extends Resource> locations,
+                final ResourceResolverChain chain) {
+            final var file = super.resolveResourceInternal(request, requestPath, locations, chain);
+            if (file != null) {
+                return "index.html".equals(requestPath) ? index : file;
+            }
+            return StringUtils.getFilenameExtension(requestPath) == null ? index : null;
+        }
+    }
+
+    /**
+     * A classpath file held in memory, together with its precompressed variants. Unlike
+     * {@link ByteArrayResource} it has a file name and a modification time, which the
+     * resource handler needs for the content type and conditional requests.
+     */
+    private static final class InMemoryResource extends ByteArrayResource {
+
+        private final String filename;
+        private final long lastModified;
+        private final Map<String, InMemoryResource> variants;
+
+        private InMemoryResource(
+                final byte[] content,
+                final String filename,
+                final long lastModified,
+                final Map<String, InMemoryResource> variants) {
+            super(content, filename);
+            this.filename = filename;
+            this.lastModified = lastModified;
+            this.variants = variants;
+        }
+
+        /**
+         * Loads the file and its {@code .br}/{@code .gz} variants, or returns {@code null} if
+         * the frontend was not built into the classpath.
+         */
+        static InMemoryResource load(final String path) {
+            final var file = new ClassPathResource(path);
+            if (!file.exists()) {
+                return null;
+            }
+            final var filename = file.getFilename();
+            final long lastModified = System.currentTimeMillis();
+            final var variants = new HashMap<String, InMemoryResource>();
+            for (final var extension : List.of(".br", ".gz")) {
+                final var variant = new ClassPathResource(path + extension);
+                if (variant.exists()) {
+                    variants.put(filename + extension,
+                            new InMemoryResource(read(variant), filename + extension, lastModified, Map.of()));
+                }
+            }
+            return new InMemoryResource(read(file), filename, lastModified, Map.copyOf(variants));
+        }
+
+        private static byte[] read(final Resource resource) {
+            try (var in = resource.getInputStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + resource, e);
+            }
+        }
+
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public long lastModified() {
+            return lastModified;
+        }
+
+        @Override
+        public Resource createRelative(final String relativePath) throws IOException {
+            final var variant = variants.get(relativePath);
+            if (variant == null) {
+                throw new FileNotFoundException(relativePath + " is not held in memory");
+            }
+            return variant;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return this == other;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
 }
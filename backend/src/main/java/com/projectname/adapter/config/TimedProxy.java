@@ -0,0 +1,88 @@
+package com.projectname.adapter.config;
+
+import com.projectname.domain.exception.DomainException;
+import com.projectname.domain.exception.DuplicateUserException;
+import com.projectname.domain.exception.ResourceNotFoundException;
+import com.projectname.domain.exception.VersionConflictException;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorates an interface so that every call is recorded in a timer with a percentile histogram.
+ *
+ * <p>Timers are tagged with the method name as {@code operation} and with an {@code outcome}
+ * that follows the status {@link GlobalExceptionHandler} maps the exception to: {@code ok},
+ * {@code not_found}, {@code conflict}, {@code validation_error} or {@code error}.</p>
+ */
+final class TimedProxy implements InvocationHandler {
+
+    private final Object target;
+    private final Map<Method, Meter.MeterProvider<Timer>> timers = new HashMap<>();
+
+    private TimedProxy(final Class<?> type, final Object target, final String metricName,
+            final String description, final MeterRegistry meterRegistry) {
+        this.target = target;
+        for (final var method : type.getMethods()) {
+            timers.put(method, Timer.builder(metricName)
+                    .description(description)
+                    .tag("operation", method.getName())
+                    .publishPercentileHistogram()
+                    .withRegistry(meterRegistry));
+        }
+    }
+
+    static <T> T wrap(final Class<T> type, final T target, final String metricName,
+            final String description, final MeterRegistry meterRegistry) {
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] {type},
+                new TimedProxy(type, target, metricName, description, meterRegistry)));
+    }
+
+    @Override
+    public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+        final var timer = timers.get(method);
+        if (timer == null) {
+            return invokeTarget(method, args);
+        }
+        final var start = System.nanoTime();
+        var outcome = "ok";
+        try {
+            return invokeTarget(method, args);
+        } catch (final Throwable e) {
+            outcome = outcome(e);
+            throw e;
+        } finally {
+            timer.withTag("outcome", outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Object invokeTarget(final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    static String outcome(final Throwable e) {
+        if (e instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof VersionConflictException || e instanceof DuplicateUserException) {
+            return "conflict";
+        }
+        if (e instanceof DomainException || e instanceof IllegalArgumentException) {
+            return "validation_error";
+        }
+        return "error";
+    }
+}
@@ -0,0 +1,18 @@
+package com.projectname.adapter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for answering lookups of missing users from memory ({@code app.user-bloom-filter.*}).
+ *
+ * @param enabled whether {@link UserPortConfig} puts the membership filter in front of the persistence adapter
+ * @param expectedInsertions number of users the filter is sized for; beyond it false positives become more frequent
+ * @param falsePositiveProbability share of missing keys that still reach the database while within the expected size
+ */
+@ConfigurationProperties(prefix = "app.user-bloom-filter")
+public record UserBloomFilterProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1000000") long expectedInsertions,
+    @DefaultValue("0.01") double falsePositiveProbability) {
+}
@@ -0,0 +1,19 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the user read-through cache ({@code app.user-cache.*}).
+ *
+ * @param enabled whether {@link UserPortConfig} puts the cache in front of the persistence adapter
+ * @param maximumSize maximum number of cached users
+ * @param expireAfterWrite how long a cached user may be served before it is reloaded
+ */
+@ConfigurationProperties(prefix = "app.user-cache")
+public record UserCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") long maximumSize,
+    @DefaultValue("60s") Duration expireAfterWrite) {
+}
@@ -0,0 +1,17 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for sharing concurrent lookups of the same user ({@code app.user-coalescing.*}).
+ *
+ * @param enabled whether {@link UserPortConfig} puts the coalescing layer in front of the persistence adapter
+ * @param maxWait how long a caller waits for a shared lookup before reading on its own
+ */
+@ConfigurationProperties(prefix = "app.user-coalescing")
+public record UserCoalescingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1s") Duration maxWait) {
+}
@@ -0,0 +1,24 @@
+package com.projectname.adapter.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for grouping concurrent user inserts into shared transactions
+ * ({@code app.user-group-commit.*}).
+ *
+ * @param enabled whether {@link UserPortConfig} puts the group commit in front of the persistence adapter
+ * @param queueCapacity inserts that may wait for a commit; further inserts are written directly
+ * @param maxBatchSize maximum number of inserts written in one transaction
+ * @param maxDelay how long the first insert of a batch waits for others to join it
+ * @param maxWait how long a caller waits for its insert to be committed before giving up on the batch
+ */
+@ConfigurationProperties(prefix = "app.user-group-commit")
+public record UserGroupCommitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("100") int maxBatchSize,
+    @DefaultValue("2ms") Duration maxDelay,
+    @DefaultValue("10s") Duration maxWait) {
+}
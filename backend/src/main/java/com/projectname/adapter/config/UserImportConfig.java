@@ -0,0 +1,36 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.inbound.cli.UserImportRunner;
+import com.projectname.application.port.in.UserUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Registers {@link UserImportRunner} when {@code app.user-import.file} is set. Started that way
+ * from the command line, {@code ProjectNameApplication} skips the web server and exits once the
+ * import is done.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.user-import", name = "file")
+@EnableConfigurationProperties(UserImportProperties.class)
+public class UserImportConfig {
+
+    @Bean
+    UserImportRunner userImportRunner(
+            final UserUseCase userUseCase,
+            final ObjectMapper objectMapper,
+            final UserImportProperties properties) {
+        final var file = properties.file();
+        final var rejects = properties.rejects() != null
+                ? properties.rejects()
+                : file.resolveSibling(file.getFileName() + ".rejects.ndjson");
+        final var parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new UserImportRunner(userUseCase, objectMapper, file, properties.format(), rejects,
+                properties.batchSize(), parallelism, properties.progressInterval());
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.inbound.cli.UserImportFormat;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the bulk import mode ({@code app.user-import.*}), which is active whenever
+ * {@code file} is set.
+ *
+ * @param file CSV or NDJSON file to load users from
+ * @param format format of {@code file}; {@code null} derives it from the file extension
+ * @param rejects where rejected lines are written as NDJSON; {@code null} means {@code <file>.rejects.ndjson}
+ * @param batchSize records validated and inserted together, 1 to 1000 (the createUsers limit)
+ * @param parallelism batches validated concurrently ahead of the writer, at most 256; 0 means one per available
+ *     processor
+ * @param progressInterval how often progress and throughput are logged
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.user-import")
+public record UserImportProperties(
+    Path file,
+    UserImportFormat format,
+    Path rejects,
+    @DefaultValue("1000") @Min(1) @Max(1000) int batchSize,
+    @DefaultValue("0") @Min(0) @Max(256) int parallelism,
+    @DefaultValue("10s") Duration progressInterval) {
+}
@@ -0,0 +1,29 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.logstore.LogStructuredUserPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces the JPA adapter with {@link LogStructuredUserPort} under the {@code logstore}
+ * profile, which also switches off the datasource and JPA (see application-logstore.yml).
+ */
+@Configuration
+@Profile(UserLogStoreConfig.PROFILE)
+@EnableConfigurationProperties(UserLogStoreProperties.class)
+public class UserLogStoreConfig {
+
+    static final String PROFILE = "logstore";
+
+    @Bean(UserPortConfig.PERSISTENCE)
+    LogStructuredUserPort logStructuredUserPort(
+            final UserLogStoreProperties properties,
+            final MeterRegistry meterRegistry) {
+        return new LogStructuredUserPort(properties.directory(), properties.segmentSize().toBytes(),
+                properties.fsync(), properties.fsyncInterval(), properties.compactionInterval(),
+                properties.compactionThreshold(), meterRegistry);
+    }
+}
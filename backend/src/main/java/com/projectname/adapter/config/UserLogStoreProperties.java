@@ -0,0 +1,29 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.logstore.FsyncPolicy;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the log-structured user store of the {@code logstore} profile
+ * ({@code app.user-log-store.*}).
+ *
+ * @param directory where the segment files are kept
+ * @param segmentSize size of each memory-mapped segment file; also bounds the size of a single batch
+ * @param fsync when written records are forced to disk
+ * @param fsyncInterval how often the active segment is forced with {@link FsyncPolicy#INTERVAL}
+ * @param compactionInterval how often sealed segments are checked for compaction
+ * @param compactionThreshold live share of a sealed segment at or below which it is compacted
+ */
+@ConfigurationProperties(prefix = "app.user-log-store")
+public record UserLogStoreProperties(
+    @DefaultValue("data/users") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("interval") FsyncPolicy fsync,
+    @DefaultValue("1s") Duration fsyncInterval,
+    @DefaultValue("1m") Duration compactionInterval,
+    @DefaultValue("0.5") double compactionThreshold) {
+}
@@ -0,0 +1,103 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.bloom.BloomFilterUserPort;
+import com.projectname.adapter.outbound.bloom.UserMembershipFilter;
+import com.projectname.adapter.outbound.cache.CachingUserPort;
+import com.projectname.adapter.outbound.coalescing.CoalescingUserPort;
+import com.projectname.adapter.outbound.groupcommit.GroupCommitUserPort;
+import com.projectname.application.port.UserPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the {@link UserPort} seen by the application layer.
+ *
+ * <p>The persistence adapter is wrapped by optional decorators, each switched on by its own
+ * configuration, so the application keeps depending on the port alone.</p>
+ */
+@Configuration
+@EnableConfigurationProperties({
+        UserCacheProperties.class, UserGroupCommitProperties.class, UserCoalescingProperties.class,
+        UserBloomFilterProperties.class})
+public class UserPortConfig {
+
+    /**
+     * Name of the bean that actually stores users: the JPA adapter, the log-structured store
+     * under the {@code logstore} profile, or the sharded store under the {@code sharding}
+     * profile. The decorators below are stacked on top of it.
+     */
+    public static final String PERSISTENCE = "userPersistence";
+
+    /**
+     * A bean of its own so the context closes it on shutdown, writing the inserts still queued.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.user-group-commit.enabled", havingValue = "true")
+    GroupCommitUserPort groupCommitUserPort(
+            @Qualifier(PERSISTENCE) final UserPort persistence,
+            final UserGroupCommitProperties properties,
+            final MeterRegistry meterRegistry) {
+        return new GroupCommitUserPort(persistence, properties.queueCapacity(),
+                properties.maxBatchSize(), properties.maxDelay(), properties.maxWait(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.user-bloom-filter.enabled", havingValue = "true")
+    UserMembershipFilter userMembershipFilter(final UserBloomFilterProperties properties) {
+        return new UserMembershipFilter(properties.expectedInsertions(), properties.falsePositiveProbability());
+    }
+
+    /**
+     * Loads the existing users into the membership filter before the application reports itself
+     * ready for traffic. Reads straight from the persistence bean, past the decorators.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.user-bloom-filter.enabled", havingValue = "true")
+    ApplicationListener<ApplicationReadyEvent> userMembershipFilterLoader(
+            final UserMembershipFilter filter, @Qualifier(PERSISTENCE) final UserPort persistence) {
+        return event -> filter.rebuild(persistence);
+    }
+
+    @Bean
+    @Primary
+    UserPort userPort(
+            @Qualifier(PERSISTENCE) final UserPort persistence,
+            final ObjectProvider<GroupCommitUserPort> groupCommitUserPort,
+            final UserCacheProperties cacheProperties,
+            final ReadReplicaProperties replicaProperties,
+            final UserCoalescingProperties coalescingProperties,
+            final ObjectProvider<UserMembershipFilter> membershipFilter,
+            final MeterRegistry meterRegistry) {
+        final var groupCommit = groupCommitUserPort.getIfAvailable();
+        UserPort port = groupCommit != null ? groupCommit : persistence;
+        if (coalescingProperties.enabled()) {
+            // Inside the cache, so only cache misses for the same key are shared.
+            port = new CoalescingUserPort(port, coalescingProperties.maxWait(), meterRegistry);
+        }
+        if (cacheProperties.enabled()) {
+            // A replica in rotation lags at most max-lag, as of its last check.
+            final var staleReadWindow = replicaProperties.enabled()
+                    ? replicaProperties.maxLag().plus(replicaProperties.checkInterval())
+                    : Duration.ZERO;
+            port = new CachingUserPort(port, cacheProperties.maximumSize(), cacheProperties.expireAfterWrite(),
+                    staleReadWindow, meterRegistry);
+        }
+        final var filter = membershipFilter.getIfAvailable();
+        if (filter != null) {
+            // Outside the cache, which does not remember misses.
+            port = new BloomFilterUserPort(port, filter, meterRegistry);
+        }
+        // Outermost, so the timings are what the application layer sees, cache hits included.
+        return TimedProxy.wrap(UserPort.class, port, "app.user.port",
+                "Time spent in UserPort calls", meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.projectname.adapter.config;
+
+import com.projectname.adapter.outbound.sharding.JdbcUserShard;
+import com.projectname.adapter.outbound.sharding.ShardedUserPort;
+import com.projectname.adapter.outbound.sharding.UserDirectory;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Replaces the JPA adapter with a {@link ShardedUserPort} under the {@code sharding} profile.
+ * Each shard and the directory get their own connection pool, reported with the usual
+ * {@code hikaricp.*} meters under the pool names {@code shard-<n>} and {@code user-directory}.
+ */
+@Configuration
+@Profile("sharding")
+@EnableConfigurationProperties(UserShardingProperties.class)
+public class UserShardingConfig {
+
+    @Bean(UserPortConfig.PERSISTENCE)
+    ShardedUserPort shardedUserPort(
+            final UserShardingProperties properties,
+            final MeterRegistry meterRegistry) {
+        if (properties.shards().isEmpty() || properties.directory() == null) {
+            throw new IllegalStateException("app.user-sharding needs at least one shard and a directory");
+        }
+        final var directoryPool = pool("user-directory", properties.directory(), properties, meterRegistry);
+        if (properties.initializeSchema()) {
+            UserDirectory.initializeSchema(directoryPool);
+        }
+        final List<JdbcUserShard> shards = new ArrayList<>();
+        for (int i = 0; i < properties.shards().size(); i++) {
+            final var shardPool = pool("shard-" + i, properties.shards().get(i), properties, meterRegistry);
+            if (properties.initializeSchema()) {
+                JdbcUserShard.initializeSchema(shardPool, i, properties.shards().size());
+            }
+            shards.add(new JdbcUserShard(i, shardPool));
+        }
+        return new ShardedUserPort(shards, new UserDirectory(directoryPool), meterRegistry);
+    }
+
+    private static HikariDataSource pool(
+            final String name,
+            final UserShardingProperties.Database database,
+            final UserShardingProperties properties,
+            final MeterRegistry meterRegistry) {
+        final var pool = new HikariDataSource();
+        pool.setPoolName(name);
+        pool.setJdbcUrl(database.url());
+        pool.setUsername(database.username());
+        pool.setPassword(database.password());
+        pool.setMaximumPoolSize(properties.poolSize());
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return pool;
+    }
+}
@@ -0,0 +1,33 @@
+package com.projectname.adapter.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for spreading users over several databases under the {@code sharding} profile
+ * ({@code app.user-sharding.*}).
+ *
+ * @param shards the shard databases; ids encode their shard through the number and order of shards,
+ *     so neither may change once users are stored
+ * @param directory the database holding the global username and email keys
+ * @param poolSize maximum connections per shard and for the directory
+ * @param initializeSchema whether to create missing tables and sequences on startup
+ */
+@ConfigurationProperties(prefix = "app.user-sharding")
+public record UserShardingProperties(
+    @DefaultValue List<Database> shards,
+    Database directory,
+    @DefaultValue("10") int poolSize,
+    @DefaultValue("false") boolean initializeSchema) {
+
+  /**
+   * Connection settings of one database.
+   *
+   * @param url JDBC URL
+   * @param username user name
+   * @param password password
+   */
+  public record Database(String url, String username, String password) {
+  }
+}
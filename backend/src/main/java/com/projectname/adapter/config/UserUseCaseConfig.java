@@ -0,0 +1,23 @@
+package com.projectname.adapter.config;
+
+import com.projectname.application.port.in.UserUseCase;
+import com.projectname.application.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the {@link UserUseCase} seen by the inbound adapters: the service, timed per method
+ * as {@code app.user.usecase}.
+ */
+@Configuration
+public class UserUseCaseConfig {
+
+    @Bean
+    @Primary
+    UserUseCase userUseCase(final UserService userService, final MeterRegistry meterRegistry) {
+        return TimedProxy.wrap(UserUseCase.class, userService, "app.user.usecase",
+                "Time spent in UserUseCase methods", meterRegistry);
+    }
+}
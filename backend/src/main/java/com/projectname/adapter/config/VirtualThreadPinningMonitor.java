@@ -0,0 +1,107 @@
+package com.projectname.adapter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread.
+ *
+ * <p>Listens to the JFR {@code jdk.VirtualThreadPinned} event in-process. It records each
+ * occurrence in the {@code app.virtual.threads.pinned} timer, tagged with the library whose
+ * frame caused it (H2, Hikari, Hibernate, application or other), and logs the top of the
+ * stack. Only active when {@code spring.threads.virtual.enabled=true}.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            final MeterRegistry meterRegistry,
+            @Value("${app.virtual-threads.pinned-threshold:20ms}") final Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(final RecordedEvent event) {
+        final var frames = event.getStackTrace() == null
+                ? List.<RecordedFrame>of()
+                : event.getStackTrace().getFrames();
+        Timer.builder("app.virtual.threads.pinned")
+                .description("Virtual threads pinned to their carrier for longer than the threshold")
+                .tag("source", source(frames))
+                .register(meterRegistry)
+                .record(event.getDuration());
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned for {} ms:\n\t{}",
+                    event.getDuration().toMillis(),
+                    frames.stream()
+                            .limit(LOGGED_FRAMES)
+                            .map(VirtualThreadPinningMonitor::describe)
+                            .collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private static String source(final List<RecordedFrame> frames) {
+        for (final var frame : frames) {
+            final var type = frame.getMethod().getType().getName();
+            if (type.startsWith("org.h2.")) {
+                return "h2";
+            }
+            if (type.startsWith("com.zaxxer.hikari.")) {
+                return "hikari";
+            }
+            if (type.startsWith("org.hibernate.")) {
+                return "hibernate";
+            }
+            if (type.startsWith("com.projectname.")) {
+                return "application";
+            }
+        }
+        return "other";
+    }
+
+    private static String describe(final RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
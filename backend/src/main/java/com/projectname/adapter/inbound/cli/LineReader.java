@@ -0,0 +1,131 @@
+package com.projectname.adapter.inbound.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines from a file through one reusable buffer, so memory does not grow with the
+ * file. A {@code '\n'} byte never occurs inside a multi-byte UTF-8 sequence, which lets lines be
+ * split on raw bytes and decoded once complete.
+ *
+ * <p>A line longer than the configured maximum is cut there and the rest of it skipped;
+ * {@link #truncated()} tells the caller, which can reject the line and carry on.</p>
+ */
+final class LineReader implements Closeable {
+
+  static final int BUFFER_SIZE = 1 << 20;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).flip();
+  private final int maxLineLength;
+  private final long size;
+  private byte[] line = new byte[256];
+  private int length;
+  private boolean truncated;
+  private long lineNumber;
+
+  LineReader(final Path file, final int maxLineLength) throws IOException {
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    this.size = channel.size();
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Returns the next line without its {@code \n} or {@code \r\n} terminator.
+   *
+   * @return the line, or {@code null} at the end of the file
+   * @throws IOException if reading fails
+   */
+  String readLine() throws IOException {
+    length = 0;
+    truncated = false;
+    var started = false;
+    while (buffer.hasRemaining() || fill()) {
+      started = true;
+      final var bytes = buffer.array();
+      final var start = buffer.position();
+      final var end = buffer.limit();
+      var newline = start;
+      while (newline < end && bytes[newline] != '\n') {
+        newline++;
+      }
+      append(bytes, start, newline - start);
+      if (newline < end) {
+        buffer.position(newline + 1);
+        return finish();
+      }
+      buffer.position(end);
+    }
+    return started ? finish() : null;
+  }
+
+  /**
+   * @return whether the line last returned by {@link #readLine()} was cut at the maximum length
+   */
+  boolean truncated() {
+    return truncated;
+  }
+
+  /**
+   * @return the 1-based number of the line last returned by {@link #readLine()}
+   */
+  long lineNumber() {
+    return lineNumber;
+  }
+
+  /**
+   * @return the number of bytes consumed so far
+   */
+  long position() throws IOException {
+    return channel.position() - buffer.remaining();
+  }
+
+  long size() {
+    return size;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private boolean fill() throws IOException {
+    buffer.clear();
+    final var read = channel.read(buffer);
+    buffer.flip();
+    return read > 0;
+  }
+
+  private void append(final byte[] bytes, final int offset, final int count) {
+    var kept = count;
+    if (length + count > maxLineLength) {
+      kept = maxLineLength - length;
+      truncated = true;
+    }
+    if (length + kept > line.length) {
+      line = Arrays.copyOf(line, Math.min(maxLineLength, Math.max(line.length * 2, length + kept)));
+    }
+    System.arraycopy(bytes, offset, line, length, kept);
+    length += kept;
+  }
+
+  private String finish() {
+    lineNumber++;
+    var offset = 0;
+    if (lineNumber == 1 && length >= 3
+        && line[0] == (byte) 0xEF && line[1] == (byte) 0xBB && line[2] == (byte) 0xBF) {
+      offset = 3;
+    }
+    var end = length;
+    if (end > offset && line[end - 1] == '\r') {
+      end--;
+    }
+    return new String(line, offset, end - offset, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,34 @@
+package com.projectname.adapter.inbound.cli;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * File formats understood by {@link UserImportRunner}.
+ */
+public enum UserImportFormat {
+
+  /** Comma-separated values with a header row naming the {@code username} and {@code email} columns. */
+  CSV,
+
+  /** Newline-delimited JSON, one {@code User} object per line, as written by the export endpoint. */
+  NDJSON;
+
+  /**
+   * Derives the format from the file extension: {@code .csv}, or {@code .ndjson} / {@code .jsonl}.
+   *
+   * @param file the file to import
+   * @return the format of the file
+   * @throws IllegalArgumentException if the extension is not recognized
+   */
+  public static UserImportFormat of(final Path file) {
+    final var name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    if (name.endsWith(".csv")) {
+      return CSV;
+    }
+    if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+      return NDJSON;
+    }
+    throw new IllegalArgumentException("Cannot tell the format of " + file + ", set app.user-import.format");
+  }
+}
@@ -0,0 +1,281 @@
+package com.projectname.adapter.inbound.cli;
+
+import com.projectname.application.port.in.UserUseCase;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.BatchItemStatus;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Loads users from a CSV or NDJSON file through {@link UserUseCase#createUsers}, for seeding an
+ * environment without going through the REST API.
+ *
+ * <p>The file is read in chunks of one batch. Chunks are parsed and validated on virtual threads
+ * while the calling thread writes earlier ones in file order, with at most {@code parallelism}
+ * chunks in flight, so memory is bounded by the batch size rather than the file size. The one
+ * exception are the usernames and emails seen so far, kept to reject duplicates across batches.
+ *
+ * <p>Rejected lines are written to {@code rejects} as NDJSON with their line number and reason.
+ * A line longer than {@link #MAX_LINE_LENGTH} bytes is rejected too, with its first
+ * {@code MAX_LINE_LENGTH} bytes as the record.
+ * Users whose username or email already exists are counted as skipped, which makes re-running
+ * the same file a no-op.
+ */
+@Slf4j
+public class UserImportRunner implements ApplicationRunner {
+
+  static final int MAX_LINE_LENGTH = 64 * 1024;
+
+  private final UserUseCase userUseCase;
+  private final ObjectMapper objectMapper;
+  private final Path file;
+  private final UserImportFormat format;
+  private final Path rejects;
+  private final int batchSize;
+  private final int parallelism;
+  private final Duration progressInterval;
+
+  public UserImportRunner(
+      final UserUseCase userUseCase,
+      final ObjectMapper objectMapper,
+      final Path file,
+      final UserImportFormat format,
+      final Path rejects,
+      final int batchSize,
+      final int parallelism,
+      final Duration progressInterval) {
+    this.userUseCase = userUseCase;
+    this.objectMapper = objectMapper;
+    this.file = file;
+    this.format = format == null ? UserImportFormat.of(file) : format;
+    this.rejects = rejects;
+    this.batchSize = batchSize;
+    this.parallelism = parallelism;
+    this.progressInterval = progressInterval;
+  }
+
+  @Override
+  public void run(final ApplicationArguments args) throws IOException {
+    importUsers();
+  }
+
+  /**
+   * Imports the whole file.
+   *
+   * @return the counts of the run
+   * @throws IOException if the file cannot be read or the reject file cannot be written
+   */
+  public Summary importUsers() throws IOException {
+    log.info("Importing users from {} as {}, rejected lines go to {}", file, format, rejects);
+    final var run = new Run(System.nanoTime());
+    try (var lines = new LineReader(file, MAX_LINE_LENGTH);
+        var rejectWriter = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8);
+        var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      final var parser = parser(lines);
+      final var inFlight = new ArrayDeque<Future<List<Parsed>>>();
+      var chunk = new ArrayList<Line>(batchSize);
+      String text;
+      while ((text = lines.readLine()) != null) {
+        if (text.isBlank() && !lines.truncated()) {
+          continue;
+        }
+        chunk.add(new Line(lines.lineNumber(), text, lines.truncated()));
+        if (chunk.size() == batchSize) {
+          final var submitted = chunk;
+          inFlight.add(executor.submit(() -> parse(parser, submitted)));
+          chunk = new ArrayList<>(batchSize);
+          if (inFlight.size() > parallelism) {
+            write(await(inFlight.poll()), run, rejectWriter);
+            reportProgress(run, lines);
+          }
+        }
+      }
+      if (!chunk.isEmpty()) {
+        final var submitted = chunk;
+        inFlight.add(executor.submit(() -> parse(parser, submitted)));
+      }
+      while (!inFlight.isEmpty()) {
+        write(await(inFlight.poll()), run, rejectWriter);
+        reportProgress(run, lines);
+      }
+    }
+    final var summary = run.summary();
+    log.info("Imported {} records from {} in {}: {} created, {} skipped as existing, {} rejected ({} records/s)",
+        summary.records(), file, summary.elapsed(), summary.created(), summary.skipped(),
+        summary.rejected(), summary.recordsPerSecond());
+    return summary;
+  }
+
+  private UserRecordParser parser(final LineReader lines) throws IOException {
+    return switch (format) {
+      case NDJSON -> UserRecordParser.ndjson(objectMapper);
+      case CSV -> {
+        final var header = lines.readLine();
+        if (header == null) {
+          throw new IOException(file + " is empty, expected a CSV header");
+        }
+        if (lines.truncated()) {
+          throw new IOException("CSV header of " + file + " is longer than " + MAX_LINE_LENGTH + " bytes");
+        }
+        yield UserRecordParser.csv(header);
+      }
+    };
+  }
+
+  private static List<Parsed> parse(final UserRecordParser parser, final List<Line> lines) {
+    final var parsed = new ArrayList<Parsed>(lines.size());
+    for (final var line : lines) {
+      if (line.truncated()) {
+        parsed.add(new Parsed(line, null, "Line is longer than " + MAX_LINE_LENGTH + " bytes"));
+        continue;
+      }
+      try {
+        final var user = parser.parse(line.text());
+        user.validate();
+        parsed.add(new Parsed(line, user, null));
+      } catch (IllegalArgumentException e) {
+        parsed.add(new Parsed(line, null, e.getMessage()));
+      }
+    }
+    return parsed;
+  }
+
+  private static List<Parsed> await(final Future<List<Parsed>> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while importing", e);
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to parse import chunk", e.getCause());
+    }
+  }
+
+  /**
+   * Drops invalid and repeated records, creates the rest with one batch call and tallies the
+   * outcome. Runs on the calling thread only, so the duplicate sets need no locking.
+   */
+  private void write(final List<Parsed> parsed, final Run run, final Writer rejectWriter) throws IOException {
+    final var lines = new ArrayList<Line>(parsed.size());
+    final var users = new ArrayList<User>(parsed.size());
+    for (final var record : parsed) {
+      run.records++;
+      if (record.error() != null) {
+        reject(run, rejectWriter, record.line(), record.error());
+        continue;
+      }
+      final var user = record.user();
+      if (run.usernames.contains(user.getUsername())) {
+        reject(run, rejectWriter, record.line(), "Duplicate username in file");
+        continue;
+      }
+      if (run.emails.contains(user.getEmail())) {
+        reject(run, rejectWriter, record.line(), "Duplicate email in file");
+        continue;
+      }
+      run.usernames.add(user.getUsername());
+      run.emails.add(user.getEmail());
+      lines.add(record.line());
+      users.add(user);
+    }
+    if (users.isEmpty()) {
+      return;
+    }
+    final var results = userUseCase.createUsers(users);
+    for (final var result : results) {
+      final var status = result.getStatus();
+      if (status == BatchItemStatus.CREATED) {
+        run.created++;
+      } else if (status == BatchItemStatus.CONFLICT) {
+        run.skipped++;
+      } else {
+        reject(run, rejectWriter, lines.get(result.getIndex()), result.getMessage());
+      }
+    }
+  }
+
+  private void reject(final Run run, final Writer rejectWriter, final Line line, final String reason)
+      throws IOException {
+    run.rejected++;
+    rejectWriter.write(objectMapper.writeValueAsString(new Reject(line.number(), reason, line.text())));
+    rejectWriter.write('\n');
+  }
+
+  private void reportProgress(final Run run, final LineReader lines) throws IOException {
+    final var now = System.nanoTime();
+    if (now - run.lastReport < progressInterval.toNanos()) {
+      return;
+    }
+    run.lastReport = now;
+    final var summary = run.summary();
+    log.info("Import at {}% of {}: {} records, {} created, {} skipped, {} rejected ({} records/s)",
+        lines.size() == 0 ? 100 : lines.position() * 100 / lines.size(), file, summary.records(),
+        summary.created(), summary.skipped(), summary.rejected(), summary.recordsPerSecond());
+  }
+
+  /**
+   * Outcome of an import.
+   *
+   * @param records non-blank lines read, excluding a CSV header
+   * @param created users stored by this run
+   * @param skipped users whose username or email already existed, e.g. from an earlier run
+   * @param rejected lines written to the reject file
+   * @param elapsed wall-clock time of the run
+   */
+  public record Summary(long records, long created, long skipped, long rejected, Duration elapsed) {
+
+    public long recordsPerSecond() {
+      final var millis = Math.max(1, elapsed.toMillis());
+      return records * 1000 / millis;
+    }
+  }
+
+  private record Line(long number, String text, boolean truncated) {
+  }
+
+  private record Parsed(Line line, User user, String error) {
+  }
+
+  record Reject(long line, String reason, String record) {
+  }
+
+  /**
+   * Mutable state of one {@link #importUsers()} call, touched by the calling thread only.
+   */
+  private static final class Run {
+
+    private final long started;
+    private final Set<String> usernames = new HashSet<>();
+    private final Set<String> emails = new HashSet<>();
+    private long lastReport;
+    private long records;
+    private long created;
+    private long skipped;
+    private long rejected;
+
+    private Run(final long started) {
+      this.started = started;
+      this.lastReport = started;
+    }
+
+    private Summary summary() {
+      return new Summary(records, created, skipped, rejected, Duration.ofNanos(System.nanoTime() - started));
+    }
+  }
+}
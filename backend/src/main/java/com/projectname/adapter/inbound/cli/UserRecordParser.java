@@ -0,0 +1,101 @@
+package com.projectname.adapter.inbound.cli;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.projectname.domain.entity.User;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Turns one line of an import file into a {@link User}. Parsers are stateless once created and
+ * are called from several threads at once.
+ */
+interface UserRecordParser {
+
+  /**
+   * @param line one non-blank line of the file
+   * @return the user described by the line, not yet validated
+   * @throws IllegalArgumentException if the line is malformed
+   */
+  User parse(String line);
+
+  static UserRecordParser ndjson(final ObjectMapper objectMapper) {
+    final var reader = objectMapper.readerFor(ImportedUser.class);
+    return line -> {
+      final ImportedUser imported;
+      try {
+        imported = reader.readValue(line);
+      } catch (JacksonException e) {
+        throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+      }
+      if (imported == null) {
+        throw new IllegalArgumentException("Expected a JSON object");
+      }
+      return User.builder().username(imported.username()).email(imported.email()).build();
+    };
+  }
+
+  /**
+   * Creates a parser for the rows below {@code header}. Columns are located by name, so their
+   * order is free and any other columns (e.g. {@code id}) are ignored.
+   *
+   * @param header the first line of the file
+   * @throws IllegalArgumentException if the header lacks a {@code username} or {@code email} column
+   */
+  static UserRecordParser csv(final String header) {
+    final var columns = splitCsv(header).stream().map(c -> c.trim().toLowerCase(Locale.ROOT)).toList();
+    final var username = columns.indexOf("username");
+    final var email = columns.indexOf("email");
+    if (username < 0 || email < 0) {
+      throw new IllegalArgumentException("CSV header must name a username and an email column: " + header);
+    }
+    return line -> {
+      final var fields = splitCsv(line);
+      if (fields.size() != columns.size()) {
+        throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+      }
+      return User.builder().username(fields.get(username)).email(fields.get(email)).build();
+    };
+  }
+
+  /**
+   * Splits one RFC 4180 record. Quoted fields may contain commas and doubled quotes, but not
+   * line breaks, since the file is read line by line.
+   */
+  static List<String> splitCsv(final String line) {
+    final var fields = new ArrayList<String>();
+    final var field = new StringBuilder();
+    var quoted = false;
+    for (var i = 0; i < line.length(); i++) {
+      final var c = line.charAt(i);
+      if (quoted) {
+        if (c != '"') {
+          field.append(c);
+        } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append('"');
+          i++;
+        } else {
+          quoted = false;
+        }
+      } else if (c == '"' && field.isEmpty()) {
+        quoted = true;
+      } else if (c == ',') {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException("Unterminated quoted field");
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  record ImportedUser(String username, String email) {
+  }
+}
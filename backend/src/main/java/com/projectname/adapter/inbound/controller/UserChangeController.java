@@ -0,0 +1,21 @@
+package com.projectname.adapter.inbound.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller for following user changes as Server-Sent Events.
+ */
+@RestController
+@RequiredArgsConstructor
+public class UserChangeController implements UserChangesApi {
+
+    private final UserChangeStream userChangeStream;
+
+    @Override
+    public ResponseEntity<SseEmitter> streamUserChanges(final Long lastEventID) {
+        return ResponseEntity.ok(userChangeStream.subscribe(lastEventID));
+    }
+}
@@ -0,0 +1,143 @@
+package com.projectname.adapter.inbound.controller;
+
+import com.projectname.adapter.inbound.controller.mapper.UserMapper;
+import com.projectname.application.port.in.UserChangeFeed;
+import com.projectname.domain.value.UserChange;
+import com.projectname.domain.value.UserChangeType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the {@link UserChangeFeed} to Server-Sent Events subscribers.
+ *
+ * <p>Subscribers share the feed's ring buffer and have no queue of their own: each remembers
+ * only the last sequence number it was sent, so an idle subscriber costs its emitter and a few
+ * fields. When a change arrives, every subscriber that is not already sending gets a virtual
+ * thread that sends it everything after its sequence number. A slow client thus only blocks
+ * its own thread; if it falls behind by more than the buffer holds, it is sent a
+ * {@code resync} event and continues from the latest change.</p>
+ */
+@Component
+public class UserChangeStream {
+
+    static final int MAX_CHANGES_PER_READ = 256;
+
+    private final UserChangeFeed userChangeFeed;
+    private final UserMapper userMapper;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Counter resyncs;
+
+    public UserChangeStream(
+            final UserChangeFeed userChangeFeed, final UserMapper userMapper, final MeterRegistry meterRegistry) {
+        this.userChangeFeed = userChangeFeed;
+        this.userMapper = userMapper;
+        Gauge.builder("app.user.changes.subscribers", subscribers, Set::size)
+                .description("Open Server-Sent Events subscriptions to user changes")
+                .register(meterRegistry);
+        this.resyncs = Counter.builder("app.user.changes.resyncs")
+                .description("Subscribers told to resync because the changes they missed were no longer retained")
+                .register(meterRegistry);
+        userChangeFeed.addListener(this::onChange);
+    }
+
+    /**
+     * Opens a subscription that starts after {@code lastEventId}, or at the latest change if it is {@code null}.
+     */
+    public SseEmitter subscribe(final Long lastEventId) {
+        final var emitter = new SseEmitter();
+        final long start = lastEventId == null ? userChangeFeed.latestSequence() : lastEventId;
+        final var subscriber = new Subscriber(emitter, start);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            // Stop signalling it now rather than when the container completes the request.
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        subscribers.add(subscriber);
+        // Sends what the client missed while it was disconnected.
+        subscriber.signal();
+        return emitter;
+    }
+
+    private void onChange() {
+        subscribers.forEach(Subscriber::signal);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicInteger signals = new AtomicInteger();
+        private long lastSequence;
+
+        private Subscriber(final SseEmitter emitter, final long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+
+        /**
+         * Starts a sender unless one is running; a running sender picks up the new changes itself.
+         */
+        void signal() {
+            if (signals.getAndIncrement() == 0) {
+                Thread.ofVirtual().name("user-changes-sse").start(this::drain);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!sendAvailable()) {
+                    subscribers.remove(this);
+                    return;
+                }
+                missed = signals.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean sendAvailable() {
+            try {
+                while (true) {
+                    final var batch = userChangeFeed.readAfter(lastSequence, MAX_CHANGES_PER_READ);
+                    if (batch.isResyncRequired()) {
+                        resyncs.increment();
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(batch.getLastSequence()))
+                                .name("resync")
+                                .data(Map.of(), MediaType.APPLICATION_JSON));
+                    }
+                    for (final var change : batch.getChanges()) {
+                        emitter.send(SseEmitter.event()
+                                .id(Long.toString(change.getSequence()))
+                                .name(change.getType().name().toLowerCase(Locale.ROOT))
+                                .data(payload(change), MediaType.APPLICATION_JSON));
+                    }
+                    lastSequence = batch.getLastSequence();
+                    if (batch.getChanges().isEmpty()) {
+                        return true;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter already completed; the container cleans up.
+                return false;
+            }
+        }
+
+        private Object payload(final UserChange change) {
+            if (change.getType() == UserChangeType.DELETED) {
+                return Map.of("id", change.getUserId().toLong());
+            }
+            return userMapper.toDto(change.getUser());
+        }
+    }
+}
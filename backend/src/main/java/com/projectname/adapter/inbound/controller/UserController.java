@@ -1,14 +1,24 @@
 package com.projectname.adapter.inbound.controller;
 
+import com.projectname.adapter.inbound.controller.dto.UserBatchResultDto;
 import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.dto.UserLookupRequestDto;
+import com.projectname.adapter.inbound.controller.dto.UserLookupResultDto;
 import com.projectname.adapter.inbound.controller.mapper.UserMapper;
 import com.projectname.application.port.in.UserUseCase;
+import com.projectname.domain.value.BatchItemStatus;
 import com.projectname.domain.value.UserId;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -19,23 +29,87 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserController implements UsersApi {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final UserUseCase userUseCase;
     private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public ResponseEntity<List<UserDto>> listUsers(final Long after, final Integer limit, final String ifNoneMatch) {
+        final var cursor = after == null ? null : UserId.of(after);
+        final var page = userUseCase.getUsers(cursor, limit == null ? DEFAULT_PAGE_SIZE : limit);
+        final var eTag = UserETags.of(page);
+        final var notModified = UserETags.matchesNoneMatch(ifNoneMatch, eTag);
+        final var response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK).eTag(eTag);
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor().toLong()));
+        }
+        if (notModified) {
+            return response.build();
+        }
+        final var userDTOs = page.getUsers().stream()
+                .map(userMapper::toDto)
+                .toList();
+        return response.body(userDTOs);
+    }
+
+    /**
+     * Streams all users as NDJSON. Each row is serialized and written while the export cursor
+     * is open; writes block once the client stops reading, which in turn pauses the cursor.
+     */
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        final var writer = objectMapper.writerFor(UserDto.class);
+        final StreamingResponseBody body = outputStream -> {
+            final var out = new BufferedOutputStream(outputStream, EXPORT_BUFFER_SIZE);
+            userUseCase.exportUsers(user -> {
+                try {
+                    out.write(writer.writeValueAsBytes(userMapper.toDto(user)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
 
     @Override
-    public ResponseEntity<List<UserDto>> listUsers() {
-        final var users = userUseCase.getAllUsers();
+    public ResponseEntity<List<UserDto>> searchUsers(final String q, final Integer limit) {
+        final var users = userUseCase.searchUsers(q, limit == null ? DEFAULT_SEARCH_LIMIT : limit);
         final var userDTOs = users.stream()
                 .map(userMapper::toDto)
                 .toList();
         return ResponseEntity.ok(userDTOs);
     }
 
+    /**
+     * Returns the user with its ETag, or {@code 304} without a body if {@code If-None-Match}
+     * already names the current representation.
+     */
     @Override
-    public ResponseEntity<UserDto> getUserById(final Long id) {
+    public ResponseEntity<UserDto> getUserById(final Long id, final String ifNoneMatch) {
         final var user = userUseCase.getUserById(UserId.of(id));
+        final var eTag = UserETags.of(user);
+        if (UserETags.matchesNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
         final var userDTO = userMapper.toDto(user);
-        return ResponseEntity.ok(userDTO);
+        return ResponseEntity.ok().eTag(eTag).body(userDTO);
+    }
+
+    @Override
+    public ResponseEntity<UserLookupResultDto> lookupUsers(final UserLookupRequestDto userLookupRequestDto) {
+        final var ids = userLookupRequestDto.getIds().stream()
+                .map(UserId::of)
+                .toList();
+        return ResponseEntity.ok(userMapper.toDto(userUseCase.getUsersByIds(ids)));
     }
 
     @Override
@@ -43,20 +117,37 @@ public class UserController implements UsersApi {
         final var user = userMapper.toDomain(userDTO);
         final var createdUser = userUseCase.createUser(user);
         final var createdDTO = userMapper.toDto(createdUser);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(UserETags.of(createdUser)).body(createdDTO);
+    }
+
+    @Override
+    public ResponseEntity<UserBatchResultDto> createUsersBatch(final List<UserDto> userDTOs) {
+        final var users = userDTOs.stream()
+                .map(userMapper::toDomain)
+                .toList();
+        final var items = userUseCase.createUsers(users);
+        final var created = (int) items.stream()
+                .filter(item -> item.getStatus() == BatchItemStatus.CREATED)
+                .count();
+        final var result = UserBatchResultDto.builder()
+                .created(created)
+                .failed(items.size() - created)
+                .items(items.stream().map(userMapper::toDto).toList())
+                .build();
+        return ResponseEntity.ok(result);
     }
 
     @Override
-    public ResponseEntity<UserDto> updateUser(final Long id, final UserDto userDTO) {
+    public ResponseEntity<UserDto> updateUser(final Long id, final UserDto userDTO, final String ifMatch) {
         final var user = userMapper.toDomain(userDTO);
-        final var updatedUser = userUseCase.updateUser(UserId.of(id), user);
+        final var updatedUser = userUseCase.updateUser(UserId.of(id), user, UserETags.expectedVersion(ifMatch));
         final var updatedDTO = userMapper.toDto(updatedUser);
-        return ResponseEntity.ok(updatedDTO);
+        return ResponseEntity.ok().eTag(UserETags.of(updatedUser)).body(updatedDTO);
     }
 
     @Override
-    public ResponseEntity<Void> deleteUser(final Long id) {
-        userUseCase.deleteUser(UserId.of(id));
+    public ResponseEntity<Void> deleteUser(final Long id, final String ifMatch) {
+        userUseCase.deleteUser(UserId.of(id), UserETags.expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,93 @@
+package com.projectname.adapter.inbound.controller;
+
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.VersionConflictException;
+import com.projectname.domain.value.UserPage;
+import java.time.OffsetDateTime;
+
+/**
+ * Strong entity tags for users and pages of users.
+ *
+ * <p>A user's tag is {@code "<version>-<updatedAt epoch millis>"}. The version changes on every
+ * write, so it is what {@code If-Match} is checked against. A page's tag hashes the tags of its
+ * users and its next cursor.</p>
+ */
+final class UserETags {
+
+    private static final String ANY = "*";
+
+    private UserETags() {
+    }
+
+    static String of(final User user) {
+        return quote(version(user) + "-" + millis(user.getUpdatedAt()));
+    }
+
+    static String of(final UserPage page) {
+        long hash = 1;
+        for (final var user : page.getUsers()) {
+            hash = 31 * hash + user.getId().toLong();
+            hash = 31 * hash + version(user);
+            hash = 31 * hash + millis(user.getUpdatedAt());
+        }
+        hash = 31 * hash + (page.hasNext() ? page.getNextCursor().toLong() : 0);
+        return quote(Long.toHexString(hash));
+    }
+
+    /**
+     * Evaluates {@code If-None-Match}, which uses weak comparison: a {@code W/} prefix is ignored.
+     *
+     * @return {@code true} if the client already has the representation tagged {@code eTag}
+     */
+    static boolean matchesNoneMatch(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (final var candidate : ifNoneMatch.split(",")) {
+            final var tag = candidate.trim();
+            if (tag.equals(ANY) || stripWeak(tag).equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the version an {@code If-Match} header requires.
+     *
+     * @return the required version, or {@code null} if the header is absent or {@code *}
+     * @throws VersionConflictException if the header is not a single strong tag issued by
+     *     {@link #of(User)}, since such a precondition can never be met
+     */
+    static Long expectedVersion(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        final var tag = ifMatch.trim();
+        final var separator = tag.indexOf('-');
+        if (tag.length() < 2 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"' || separator < 0) {
+            throw new VersionConflictException("If-Match must be a single ETag returned by this API");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, separator));
+        } catch (NumberFormatException e) {
+            throw new VersionConflictException("If-Match must be a single ETag returned by this API", e);
+        }
+    }
+
+    private static String stripWeak(final String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long version(final User user) {
+        return user.getVersion() == null ? 0 : user.getVersion();
+    }
+
+    private static long millis(final OffsetDateTime timestamp) {
+        return timestamp == null ? 0 : timestamp.toInstant().toEpochMilli();
+    }
+
+    private static String quote(final String value) {
+        return "\"" + value + "\"";
+    }
+}
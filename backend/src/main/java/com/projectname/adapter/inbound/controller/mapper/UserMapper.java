@@ -1,14 +1,24 @@
 package com.projectname.adapter.inbound.controller.mapper;
 
+import com.projectname.adapter.inbound.controller.dto.UserBatchItemResultDto;
 import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.dto.UserLookupResultDto;
 import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserBatchItem;
+import com.projectname.domain.value.UserLookupResult;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(uses = {UserIdMapper.class})
 public interface UserMapper {
 
   UserDto toDto(User user);
 
+  @Mapping(target = "version", ignore = true)
   User toDomain(UserDto UserDto);
+
+  UserBatchItemResultDto toDto(UserBatchItem item);
+
+  UserLookupResultDto toDto(UserLookupResult result);
 }
 
@@ -0,0 +1,98 @@
+package com.projectname.adapter.outbound.bloom;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over longs and strings.
+ *
+ * <p>{@link #mightContain} never returns {@code false} for a value that was {@link #put}, and
+ * returns {@code true} for a value that was not with about the configured probability while
+ * the number of values stays below the expected count. Values cannot be removed.</p>
+ */
+final class BloomFilter {
+
+  private final AtomicLongArray words;
+  private final long bitCount;
+  private final int hashCount;
+
+  BloomFilter(final long expectedInsertions, final double falsePositiveProbability) {
+    if (expectedInsertions < 1 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+      throw new IllegalArgumentException("Expected insertions must be positive and the probability between 0 and 1");
+    }
+    final double ln2 = Math.log(2);
+    final long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (ln2 * ln2));
+    this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+    this.bitCount = (long) words.length() * 64;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+  }
+
+  void put(final long value) {
+    put64(mix(value));
+  }
+
+  void put(final String value) {
+    put64(hash(value));
+  }
+
+  boolean mightContain(final long value) {
+    return mightContain64(mix(value));
+  }
+
+  boolean mightContain(final String value) {
+    return mightContain64(hash(value));
+  }
+
+  /**
+   * Approximate memory held by the bit array.
+   */
+  long sizeInBytes() {
+    return (long) words.length() * Long.BYTES;
+  }
+
+  private void put64(final long hash) {
+    final long h2 = mix(hash) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      final long bit = Math.floorMod(hash + i * h2, bitCount);
+      final int index = (int) (bit >>> 6);
+      final long mask = 1L << bit;
+      long word;
+      while (((word = words.get(index)) & mask) == 0 && !words.compareAndSet(index, word, word | mask)) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  private boolean mightContain64(final long hash) {
+    final long h2 = mix(hash) | 1;
+    for (int i = 0; i < hashCount; i++) {
+      final long bit = Math.floorMod(hash + i * h2, bitCount);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 64-bit FNV-1a over the UTF-8 bytes, finished with {@link #mix(long)}.
+   */
+  private static long hash(final String value) {
+    long hash = 0xcbf29ce484222325L;
+    for (final byte b : value.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= b;
+      hash *= 0x100000001b3L;
+    }
+    return mix(hash);
+  }
+
+  /**
+   * The SplitMix64 finalizer, spreading every input bit over the whole word.
+   */
+  private static long mix(final long value) {
+    long z = value + 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
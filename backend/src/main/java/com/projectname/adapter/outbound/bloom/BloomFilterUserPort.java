@@ -0,0 +1,149 @@
+package com.projectname.adapter.outbound.bloom;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Answers lookups of users that certainly do not exist without asking another {@link UserPort}.
+ *
+ * <p>Reads by id or username, and the uniqueness checks, first consult a
+ * {@link UserMembershipFilter}; keys it rules out are answered as missing right away, the
+ * others are passed on. Writes add the stored users to the filter once the delegate returns.</p>
+ *
+ * <p>The filter only sees writes made through this instance, so it must be the only writer of
+ * the users table. Until the filter is ready, every call is passed on.</p>
+ */
+public class BloomFilterUserPort implements UserPort {
+
+  private final UserPort delegate;
+  private final UserMembershipFilter filter;
+  private final Counter skippedById;
+  private final Counter skippedByUsername;
+  private final Counter skippedUniquenessChecks;
+
+  public BloomFilterUserPort(
+      final UserPort delegate, final UserMembershipFilter filter, final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.filter = filter;
+    this.skippedById = skippedCounter("findById", meterRegistry);
+    this.skippedByUsername = skippedCounter("findByUsername", meterRegistry);
+    this.skippedUniquenessChecks = skippedCounter("findExisting", meterRegistry);
+    Gauge.builder("app.user.membership-filter.insertions", filter, UserMembershipFilter::insertions)
+        .description("Users added to the membership filter since startup")
+        .register(meterRegistry);
+  }
+
+  private static Counter skippedCounter(final String operation, final MeterRegistry meterRegistry) {
+    return Counter.builder("app.user.port.filtered")
+        .description("Lookups answered as missing by the membership filter")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    if (filter.isReady() && !filter.mightContainId(id)) {
+      skippedById.increment();
+      return Optional.empty();
+    }
+    return delegate.findById(id);
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    if (filter.isReady() && !filter.mightContainUsername(username)) {
+      skippedByUsername.increment();
+      return Optional.empty();
+    }
+    return delegate.findByUsername(username);
+  }
+
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    if (!filter.isReady()) {
+      return delegate.findAllById(ids);
+    }
+    final var candidates = ids.stream().filter(filter::mightContainId).toList();
+    skippedById.increment(ids.size() - candidates.size());
+    return candidates.isEmpty() ? List.of() : delegate.findAllById(candidates);
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return findExisting(usernames, filter::mightContainUsername, delegate::findExistingUsernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return findExisting(emails, filter::mightContainEmail, delegate::findExistingEmails);
+  }
+
+  private Set<String> findExisting(
+      final Collection<String> values,
+      final Predicate<String> mightContain,
+      final Function<Collection<String>, Set<String>> lookup) {
+    if (!filter.isReady()) {
+      return lookup.apply(values);
+    }
+    final var candidates = values.stream().filter(mightContain).toList();
+    skippedUniquenessChecks.increment(values.size() - candidates.size());
+    return candidates.isEmpty() ? Set.of() : lookup.apply(candidates);
+  }
+
+  @Override
+  public User save(final User user) {
+    final var saved = delegate.save(user);
+    filter.add(saved);
+    return saved;
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    final var saved = delegate.saveAll(users);
+    saved.forEach(filter::add);
+    return saved;
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    final var updated = delegate.update(id, changes, expectedVersion);
+    updated.ifPresent(filter::add);
+    return updated;
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    return delegate.deleteById(id, expectedVersion);
+  }
+
+  @Override
+  public List<User> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    return delegate.findAllAfter(after, limit);
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    return delegate.searchByPrefix(prefix, limit);
+  }
+}
@@ -0,0 +1,87 @@
+package com.projectname.adapter.outbound.bloom;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Probabilistic record of which user ids, usernames and emails exist.
+ *
+ * <p>Every value that was {@link #add added} is reported as possibly present; a value that was
+ * not is reported absent, except for the configured false-positive rate. Values are never
+ * removed, so deleted users and old usernames stay possibly present until the next restart.</p>
+ *
+ * <p>Answers are only meaningful once {@link #rebuild(UserPort)} has loaded the existing users;
+ * until then {@link #isReady()} is {@code false}. Users added while the rebuild runs are kept.</p>
+ */
+@Slf4j
+public class UserMembershipFilter {
+
+  private final BloomFilter ids;
+  private final BloomFilter usernames;
+  private final BloomFilter emails;
+  private final AtomicLong insertions = new AtomicLong();
+  private volatile boolean ready;
+
+  public UserMembershipFilter(final long expectedInsertions, final double falsePositiveProbability) {
+    this.ids = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    this.usernames = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    this.emails = new BloomFilter(expectedInsertions, falsePositiveProbability);
+  }
+
+  /**
+   * Loads every stored user. Reads the whole table once, streaming, so it is meant to run once
+   * at startup.
+   */
+  public void rebuild(final UserPort source) {
+    final long start = System.nanoTime();
+    final var loaded = new AtomicLong();
+    source.streamAll(user -> {
+      add(user);
+      loaded.incrementAndGet();
+    });
+    ready = true;
+    log.info("Loaded {} users into the membership filter ({} KiB) in {} ms", loaded.get(),
+        (ids.sizeInBytes() + usernames.sizeInBytes() + emails.sizeInBytes()) / 1024,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  public void add(final User user) {
+    if (user.getId() != null) {
+      ids.put(user.getId().getValue());
+    }
+    if (user.getUsername() != null) {
+      usernames.put(user.getUsername());
+    }
+    if (user.getEmail() != null) {
+      emails.put(user.getEmail());
+    }
+    insertions.incrementAndGet();
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public boolean mightContainId(final UserId id) {
+    return ids.mightContain(id.getValue());
+  }
+
+  public boolean mightContainUsername(final String username) {
+    return usernames.mightContain(username);
+  }
+
+  public boolean mightContainEmail(final String email) {
+    return emails.mightContain(email);
+  }
+
+  /**
+   * Number of users added so far, including repeated adds of the same user. Once it grows past
+   * the expected insertions, the false-positive rate rises above the configured one.
+   */
+  public long insertions() {
+    return insertions.get();
+  }
+}
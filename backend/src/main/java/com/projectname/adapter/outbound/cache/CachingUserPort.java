@@ -0,0 +1,185 @@
+package com.projectname.adapter.outbound.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache in front of another {@link UserPort}.
+ *
+ * <p>Users are cached by ID in a Caffeine cache, which evicts by size with a frequency-aware
+ * (W-TinyLFU) policy and expires entries after a fixed time. Usernames map to IDs in a second
+ * cache; that mapping is only a hint and is checked against the cached user on every hit.</p>
+ *
+ * <p>Loads are atomic per key, and writes invalidate the key after the delegate returns. An
+ * invalidation therefore waits for an in-flight load and removes what it loaded. Inside a
+ * transaction the key is invalidated again after the commit, since until then a concurrent read
+ * (or a lagging replica) still sees the old row and may cache it; so a read racing a write
+ * cannot leave a stale entry behind. Cached users are copied before they are handed out because
+ * the domain {@link User} is mutable.</p>
+ *
+ * <p>If reads may be served by a lagging replica, a replica can still return the old row after
+ * the commit. Loads of a user written less than {@code staleReadWindow} ago are therefore
+ * passed through without being cached. A lagging row is then served for at most that window
+ * instead of until the entry expires.</p>
+ */
+public class CachingUserPort implements UserPort {
+
+  private final UserPort delegate;
+  private final Cache<UserId, User> usersById;
+  private final Cache<String, UserId> idsByUsername;
+  private final Cache<UserId, Boolean> recentlyWritten;
+
+  public CachingUserPort(
+      final UserPort delegate,
+      final long maximumSize,
+      final Duration expireAfterWrite,
+      final Duration staleReadWindow,
+      final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.usersById = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+    this.idsByUsername = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(expireAfterWrite)
+        .recordStats()
+        .build();
+    this.recentlyWritten = staleReadWindow.isZero() ? null : Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(staleReadWindow)
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+    CaffeineCacheMetrics.monitor(meterRegistry, idsByUsername, "users.by-username");
+  }
+
+  @Override
+  public User save(final User user) {
+    final var saved = delegate.save(user);
+    invalidate(saved.getId());
+    return saved;
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    return delegate.saveAll(users);
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    if (recentlyWritten != null && recentlyWritten.getIfPresent(id) != null) {
+      return delegate.findById(id);
+    }
+    final var cached = usersById.get(id, key -> delegate.findById(key).orElse(null));
+    return Optional.ofNullable(cached).map(user -> user.toBuilder().build());
+  }
+
+  /**
+   * Serves the cached users and reads only the others from the delegate. Those are not added to
+   * the cache: a bulk load is not atomic per key, so it could race an invalidation.
+   */
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    final var hits = usersById.getAllPresent(ids);
+    final List<User> users = new ArrayList<>(ids.size());
+    hits.values().forEach(user -> users.add(user.toBuilder().build()));
+    if (hits.size() < ids.size()) {
+      users.addAll(delegate.findAllById(ids.stream().filter(id -> !hits.containsKey(id)).toList()));
+    }
+    return users;
+  }
+
+  @Override
+  public List<User> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    return delegate.findAllAfter(after, limit);
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    return delegate.searchByPrefix(prefix, limit);
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    final var id = idsByUsername.getIfPresent(username);
+    if (id != null) {
+      final var user = findById(id);
+      if (user.isPresent() && username.equals(user.get().getUsername())) {
+        return user;
+      }
+      idsByUsername.invalidate(username);
+    }
+    final var loaded = delegate.findByUsername(username);
+    loaded.ifPresent(user -> idsByUsername.put(username, user.getId()));
+    return loaded;
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return delegate.findExistingUsernames(usernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return delegate.findExistingEmails(emails);
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    final var updated = delegate.update(id, changes, expectedVersion);
+    invalidate(id);
+    return updated;
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    final var deleted = delegate.deleteById(id, expectedVersion);
+    invalidate(id);
+    return deleted;
+  }
+
+  private void invalidate(final UserId id) {
+    evict(id);
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evict(id);
+        }
+      });
+    }
+  }
+
+  private void evict(final UserId id) {
+    if (recentlyWritten != null) {
+      // Before the invalidation, so no load can start in between and cache the old row.
+      recentlyWritten.put(id, Boolean.TRUE);
+    }
+    usersById.invalidate(id);
+  }
+}
@@ -0,0 +1,190 @@
+package com.projectname.adapter.outbound.coalescing;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Lets concurrent reads of the same user share one lookup in front of another {@link UserPort}.
+ *
+ * <p>The first caller of {@link #findById(UserId)} or {@link #findByUsername(String)} for a key
+ * runs the lookup; callers arriving while it is in flight wait for its result and get their
+ * own copy, or its exception. A waiter gives up after {@code maxWait} and reads on its own, so
+ * a stuck lookup delays the others by a bounded time.</p>
+ *
+ * <p>A write removes the in-flight lookups it may have made stale once the delegate returns, so
+ * readers arriving after the write start a fresh lookup instead of joining one that may have
+ * read the old row. Reads inside a read-write transaction are not shared, as they may need to
+ * see the transaction's own changes.</p>
+ */
+public class CoalescingUserPort implements UserPort {
+
+  private final UserPort delegate;
+  private final long maxWaitNanos;
+  private final ConcurrentMap<UserId, CompletableFuture<Optional<User>>> byId = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CompletableFuture<Optional<User>>> byUsername = new ConcurrentHashMap<>();
+  private final Counter coalescedById;
+  private final Counter coalescedByUsername;
+
+  public CoalescingUserPort(final UserPort delegate, final Duration maxWait, final MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.coalescedById = coalescedCounter("findById", meterRegistry);
+    this.coalescedByUsername = coalescedCounter("findByUsername", meterRegistry);
+  }
+
+  private static Counter coalescedCounter(final String operation, final MeterRegistry meterRegistry) {
+    return Counter.builder("app.user.port.coalesced")
+        .description("Reads answered by a lookup already in flight for the same key")
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    return coalesce(byId, id, delegate::findById, coalescedById);
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    return coalesce(byUsername, username, delegate::findByUsername, coalescedByUsername);
+  }
+
+  private <K> Optional<User> coalesce(
+      final ConcurrentMap<K, CompletableFuture<Optional<User>>> inFlight,
+      final K key,
+      final Function<K, Optional<User>> lookup,
+      final Counter coalesced) {
+    if (TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      return lookup.apply(key);
+    }
+    final var flight = new CompletableFuture<Optional<User>>();
+    final var existing = inFlight.putIfAbsent(key, flight);
+    if (existing != null) {
+      coalesced.increment();
+      return await(existing, key, lookup).map(user -> user.toBuilder().build());
+    }
+    try {
+      final var result = lookup.apply(key);
+      flight.complete(result);
+      // Waiters copy from the shared result, so the caller must not get that instance itself.
+      return result.map(user -> user.toBuilder().build());
+    } catch (RuntimeException | Error e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private <K> Optional<User> await(
+      final CompletableFuture<Optional<User>> flight, final K key, final Function<K, Optional<User>> lookup) {
+    try {
+      return flight.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      return lookup.apply(key);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a shared user lookup", e);
+    }
+  }
+
+  /**
+   * Keeps readers that arrive after a write to {@code id} from joining a lookup that started
+   * before it. Usernames may have changed too, so all username lookups are detached.
+   */
+  private void detach(final UserId id) {
+    if (id != null) {
+      byId.remove(id);
+    }
+    byUsername.clear();
+  }
+
+  @Override
+  public User save(final User user) {
+    final var saved = delegate.save(user);
+    detach(saved.getId());
+    return saved;
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    final var saved = delegate.saveAll(users);
+    byUsername.clear();
+    return saved;
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    final var updated = delegate.update(id, changes, expectedVersion);
+    detach(id);
+    return updated;
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    final var deleted = delegate.deleteById(id, expectedVersion);
+    detach(id);
+    return deleted;
+  }
+
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public List<User> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    return delegate.findAllAfter(after, limit);
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    return delegate.searchByPrefix(prefix, limit);
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return delegate.findExistingUsernames(usernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return delegate.findExistingEmails(emails);
+  }
+}
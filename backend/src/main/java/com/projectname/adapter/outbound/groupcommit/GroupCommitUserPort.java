@@ -0,0 +1,292 @@
+package com.projectname.adapter.outbound.groupcommit;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Collects inserts of new users from concurrent callers and writes them in one transaction.
+ *
+ * <p>{@link #save(User)} of a user without an ID enqueues it and blocks until a single flusher
+ * thread has stored it. The flusher takes the first waiting insert, gathers more until
+ * {@code maxBatchSize} inserts are collected or {@code maxDelay} has passed, and hands them to
+ * {@link UserPort#saveAll(List)} of the delegate. Under a burst, many callers thus share one
+ * commit; a lone caller waits at most {@code maxDelay} longer than before.</p>
+ *
+ * <p>{@code saveAll} is all-or-nothing. If it fails on a constraint, the inserts of that batch
+ * are repeated one by one, so each caller gets its own user or its own
+ * {@link DataIntegrityViolationException}, exactly as without this decorator.</p>
+ *
+ * <p>Calls inside a transaction, updates, and inserts arriving while the queue is full go to
+ * the delegate directly. All other methods delegate unchanged.</p>
+ *
+ * <p>A caller waits at most {@code maxWait}. If its insert has not been taken by the flusher by
+ * then, the caller writes it directly; if it is part of a running flush, the caller gets a
+ * {@link QueryTimeoutException}. Should the flusher thread ever stop other than through
+ * {@link #close()}, the inserts it still holds fail and all further inserts are written
+ * directly.</p>
+ */
+@Slf4j
+public class GroupCommitUserPort implements UserPort, AutoCloseable {
+
+  private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final UserPort delegate;
+  private final BlockingQueue<PendingInsert> queue;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final Duration maxWait;
+  private final DistributionSummary flushSize;
+  private final Counter bypassed;
+  private final Thread flusher;
+  private volatile boolean running = true;
+  private volatile boolean closing;
+
+  private record PendingInsert(User user, CompletableFuture<User> result) {
+  }
+
+  public GroupCommitUserPort(
+      final UserPort delegate,
+      final int queueCapacity,
+      final int maxBatchSize,
+      final Duration maxDelay,
+      final Duration maxWait,
+      final MeterRegistry meterRegistry) {
+    if (queueCapacity < 1 || maxBatchSize < 1) {
+      throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+    }
+    this.delegate = delegate;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.maxWait = maxWait;
+    Gauge.builder("app.user.group-commit.queue", queue, BlockingQueue::size)
+        .description("Inserts waiting for the next group commit")
+        .register(meterRegistry);
+    this.flushSize = DistributionSummary.builder("app.user.group-commit.flush.size")
+        .description("Inserts written per group commit")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+    this.bypassed = Counter.builder("app.user.group-commit.bypassed")
+        .description("Inserts written directly because the queue was full or a transaction was active")
+        .register(meterRegistry);
+    this.flusher = Thread.ofPlatform().name("user-group-commit").daemon().start(this::runFlusher);
+  }
+
+  @Override
+  public User save(final User user) {
+    if (user.getId() != null || !running || TransactionSynchronizationManager.isActualTransactionActive()) {
+      return directSave(user);
+    }
+    final var pending = new PendingInsert(user, new CompletableFuture<>());
+    // If close() has already drained the queue, take the insert back and write it here.
+    if (!queue.offer(pending) || !running && queue.remove(pending)) {
+      return directSave(user);
+    }
+    try {
+      return pending.result().get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException("Group commit failed", e.getCause());
+    } catch (TimeoutException e) {
+      // Not picked up by the flusher yet: write it here rather than keep waiting.
+      if (queue.remove(pending)) {
+        return directSave(user);
+      }
+      throw new QueryTimeoutException("Group commit did not complete within " + maxWait, e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      queue.remove(pending);
+      throw new IllegalStateException("Interrupted while waiting for group commit", e);
+    }
+  }
+
+  private User directSave(final User user) {
+    if (user.getId() == null) {
+      bypassed.increment();
+    }
+    return delegate.save(user);
+  }
+
+  /**
+   * Stops accepting inserts and writes those still queued before returning.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    closing = true;
+    running = false;
+    flusher.join();
+    final List<PendingInsert> remaining = new ArrayList<>();
+    while (queue.drainTo(remaining, maxBatchSize) > 0) {
+      flush(remaining);
+      remaining.clear();
+    }
+  }
+
+  private void runFlusher() {
+    final List<PendingInsert> batch = new ArrayList<>(maxBatchSize);
+    try {
+      while (running) {
+        try {
+          collect(batch);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          running = false;
+        }
+        flush(batch);
+        batch.clear();
+      }
+    } catch (Throwable e) {
+      log.error("Group commit flusher failed, writing inserts directly from now on", e);
+      fail(batch, e);
+    } finally {
+      if (!closing) {
+        // Nobody drains the queue any more: new inserts go direct, waiting ones fail.
+        running = false;
+        final List<PendingInsert> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, new IllegalStateException("Group commit flusher stopped"));
+      }
+    }
+  }
+
+  /**
+   * Waits for a first insert, then gathers more until the batch is full or its window closed.
+   */
+  private void collect(final List<PendingInsert> batch) throws InterruptedException {
+    final var first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return;
+    }
+    batch.add(first);
+    final long deadline = System.nanoTime() + maxDelayNanos;
+    while (batch.size() < maxBatchSize) {
+      queue.drainTo(batch, maxBatchSize - batch.size());
+      final long remaining = deadline - System.nanoTime();
+      if (batch.size() >= maxBatchSize || remaining <= 0) {
+        return;
+      }
+      final var next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+      if (next == null) {
+        return;
+      }
+      batch.add(next);
+    }
+  }
+
+  private void flush(final List<PendingInsert> batch) {
+    if (batch.isEmpty()) {
+      return;
+    }
+    flushSize.record(batch.size());
+    try {
+      final var saved = delegate.saveAll(batch.stream().map(PendingInsert::user).toList());
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).result().complete(saved.get(i));
+      }
+    } catch (DataIntegrityViolationException batchFailure) {
+      // Find out which inserts conflict; the others still succeed, each in its own transaction.
+      for (final var pending : batch) {
+        saveOne(pending);
+      }
+    } catch (Throwable e) {
+      log.warn("Group commit of {} users failed", batch.size(), e);
+      fail(batch, e);
+    }
+  }
+
+  private void saveOne(final PendingInsert pending) {
+    try {
+      pending.result().complete(delegate.save(pending.user()));
+    } catch (Throwable e) {
+      pending.result().completeExceptionally(e);
+    }
+  }
+
+  private static void fail(final List<PendingInsert> inserts, final Throwable e) {
+    inserts.forEach(pending -> pending.result().completeExceptionally(e));
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    return delegate.saveAll(users);
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    return delegate.findById(id);
+  }
+
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    return delegate.findAllById(ids);
+  }
+
+  @Override
+  public List<User> findAll() {
+    return delegate.findAll();
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    return delegate.findAllAfter(after, limit);
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    delegate.streamAll(consumer);
+  }
+
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    return delegate.searchByPrefix(prefix, limit);
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    return delegate.findByUsername(username);
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return delegate.findExistingUsernames(usernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return delegate.findExistingEmails(emails);
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    return delegate.update(id, changes, expectedVersion);
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    return delegate.deleteById(id, expectedVersion);
+  }
+}
@@ -0,0 +1,20 @@
+package com.projectname.adapter.outbound.logstore;
+
+/**
+ * When {@link LogStructuredUserPort} forces written records from the page cache to disk.
+ *
+ * <p>Records are in the page cache as soon as a write returns, so they survive a crash of the
+ * process under every policy; the policy decides how much may be lost if the machine itself
+ * goes down.</p>
+ */
+public enum FsyncPolicy {
+
+  /** Every write is on disk before it returns. */
+  ALWAYS,
+
+  /** The active segment is forced at a fixed interval; at most that interval of writes is lost. */
+  INTERVAL,
+
+  /** Left to the operating system, except when a segment is sealed or the store is closed. */
+  NEVER
+}
@@ -0,0 +1,631 @@
+package com.projectname.adapter.outbound.logstore;
+
+import com.projectname.adapter.outbound.logstore.UserRecordCodec.Entry;
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.DuplicateUserException;
+import com.projectname.domain.exception.VersionConflictException;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Stores users in an append-only log of memory-mapped {@link Segment segments}, without a
+ * database.
+ *
+ * <p>Every write appends the new state of the users it touches (or a tombstone for a delete)
+ * as one checksummed frame to the active segment; a batch is one frame, so it survives a crash
+ * entirely or not at all. When the active segment is full it is sealed and a new one started.
+ * A {@link LongOffsetIndex} maps each id to the location of its latest record, and the unique
+ * usernames and emails are kept in heap maps, so reads decode a single record from the
+ * mapping. On startup the segments are replayed in order to rebuild this state, discarding a
+ * torn frame at the end.</p>
+ *
+ * <p>Superseded records are reclaimed in the background: a sealed segment whose share of live
+ * records falls to the compaction threshold has those records appended again and is then
+ * deleted. Tombstones are carried along as long as an older segment may still hold the record
+ * they delete, and the one of the highest id ever assigned for good, as it is what keeps that
+ * id from being reused after a restart.</p>
+ *
+ * <p>Reads share a read lock, writes and compaction steps take the write lock. Constraint
+ * violations are reported as {@link DataIntegrityViolationException} and stale versions as
+ * {@link VersionConflictException}, as by the JPA adapter.</p>
+ */
+@Slf4j
+public class LogStructuredUserPort implements UserPort, AutoCloseable {
+
+  /**
+   * Users read per lock hold by {@link #streamAll(Consumer)}, so a slow consumer does not
+   * block writers.
+   */
+  static final int STREAM_CHUNK_SIZE = 256;
+
+  private static final Pattern SEGMENT_FILE = Pattern.compile("users-(\\d{10})\\.log");
+
+  private final Path directory;
+  private final long segmentSize;
+  private final FsyncPolicy fsyncPolicy;
+  private final double compactionThreshold;
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  private final NavigableMap<Integer, Segment> segments = new TreeMap<>();
+  private final LongOffsetIndex index = new LongOffsetIndex();
+  private final Map<String, Long> idsByUsername = new HashMap<>();
+  private final Map<String, Long> idsByEmail = new HashMap<>();
+  private final NavigableMap<String, Long> idsByUsernamePrefix = new TreeMap<>();
+  private final NavigableMap<String, Long> idsByEmailPrefix = new TreeMap<>();
+  private final ScheduledExecutorService maintenance;
+  private final Counter compactions;
+  private Segment active;
+  private long nextId = 1;
+
+  public LogStructuredUserPort(
+      final Path directory,
+      final long segmentSize,
+      final FsyncPolicy fsyncPolicy,
+      final Duration fsyncInterval,
+      final Duration compactionInterval,
+      final double compactionThreshold,
+      final MeterRegistry meterRegistry) {
+    if (segmentSize < 4096 || segmentSize > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Segment size must be between 4 KiB and 2 GiB");
+    }
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.fsyncPolicy = fsyncPolicy;
+    this.compactionThreshold = compactionThreshold;
+    try {
+      Files.createDirectories(directory);
+      recover();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot open the user log in " + directory, e);
+    }
+    Gauge.builder("app.user.log-store.segments", this, LogStructuredUserPort::segmentCount)
+        .description("Segment files of the user log")
+        .register(meterRegistry);
+    Gauge.builder("app.user.log-store.bytes", this, port -> port.bytes(false))
+        .description("Bytes of records in the user log")
+        .baseUnit("bytes")
+        .tag("state", "written")
+        .register(meterRegistry);
+    Gauge.builder("app.user.log-store.bytes", this, port -> port.bytes(true))
+        .description("Bytes of records in the user log")
+        .baseUnit("bytes")
+        .tag("state", "live")
+        .register(meterRegistry);
+    this.compactions = Counter.builder("app.user.log-store.compactions")
+        .description("Segments rewritten and deleted by compaction")
+        .register(meterRegistry);
+    this.maintenance = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("user-log-store").daemon().factory());
+    if (fsyncPolicy == FsyncPolicy.INTERVAL) {
+      maintenance.scheduleWithFixedDelay(
+          this::forceActive, fsyncInterval.toNanos(), fsyncInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+    maintenance.scheduleWithFixedDelay(
+        this::compactQuietly, compactionInterval.toNanos(), compactionInterval.toNanos(), TimeUnit.NANOSECONDS);
+  }
+
+  private void recover() throws IOException {
+    final long start = System.nanoTime();
+    final List<Path> files;
+    try (var listing = Files.list(directory)) {
+      files = listing.filter(path -> SEGMENT_FILE.matcher(path.getFileName().toString()).matches())
+          .sorted()
+          .toList();
+    }
+    for (final Path file : files) {
+      final var matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+      matcher.matches();
+      final var segment = Segment.open(file, Integer.parseInt(matcher.group(1)));
+      segments.put(segment.id(), segment);
+      final long torn = segment.recover((frameOffset, body) -> replay(segment, frameOffset, body));
+      if (torn > 0) {
+        log.warn("Discarded an incomplete write of {} bytes at the end of {}", torn, file);
+      }
+    }
+    active = segments.isEmpty() ? newSegment(1) : segments.lastEntry().getValue();
+    log.info("Recovered {} users from {} segments in {} in {} ms", index.size(), segments.size(), directory,
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  private void replay(final Segment segment, final int frameOffset, final ByteBuffer body) {
+    while (body.hasRemaining()) {
+      final int position = frameOffset + Segment.FRAME_HEADER_SIZE + body.position();
+      apply(segment, position, UserRecordCodec.read(body));
+    }
+  }
+
+  @Override
+  public User save(final User user) {
+    lock.writeLock().lock();
+    try {
+      final User stored;
+      if (user.getId() == null) {
+        stored = user.toBuilder().id(UserId.of(nextId)).version(0L).build();
+      } else {
+        final var current = read(user.getId().toLong());
+        if (current.isEmpty()
+            || user.getVersion() != null && !user.getVersion().equals(current.get().getVersion())) {
+          throw new VersionConflictException("User " + user.getId().toLong() + " was modified concurrently");
+        }
+        stored = user.toBuilder().version(current.get().getVersion() + 1).build();
+      }
+      checkUnique(stored);
+      writeUsers(List.of(stored));
+      return stored;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    lock.writeLock().lock();
+    try {
+      final List<User> stored = new ArrayList<>(users.size());
+      final Set<String> usernames = new HashSet<>();
+      final Set<String> emails = new HashSet<>();
+      for (final User user : users) {
+        final var newUser = user.toBuilder().id(UserId.of(nextId + stored.size())).version(0L).build();
+        checkUnique(newUser);
+        if (!usernames.add(newUser.getUsername()) || !emails.add(newUser.getEmail())) {
+          throw new DataIntegrityViolationException("Batch contains a username or email twice");
+        }
+        stored.add(newUser);
+      }
+      writeUsers(stored);
+      return stored;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    lock.readLock().lock();
+    try {
+      return read(id.toLong());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    lock.readLock().lock();
+    try {
+      final List<User> users = new ArrayList<>(ids.size());
+      for (final UserId id : ids) {
+        read(id.toLong()).ifPresent(users::add);
+      }
+      return users;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public List<User> findAll() {
+    return findAllAfter(null, Integer.MAX_VALUE);
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    lock.readLock().lock();
+    try {
+      final List<User> users = new ArrayList<>(Math.min(limit, index.size()));
+      for (int slot = index.slotAfter(after == null ? 0L : after.toLong());
+          slot < index.slots() && users.size() < limit; slot++) {
+        final long location = index.valueAt(slot);
+        if (location != LongOffsetIndex.ABSENT) {
+          users.add(decode(location).user());
+        }
+      }
+      return users;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    UserId after = null;
+    List<User> chunk;
+    do {
+      chunk = findAllAfter(after, STREAM_CHUNK_SIZE);
+      chunk.forEach(consumer);
+      if (!chunk.isEmpty()) {
+        after = chunk.getLast().getId();
+      }
+    } while (chunk.size() == STREAM_CHUNK_SIZE);
+  }
+
+  /**
+   * Merges the username and email matches like the JPA adapter does. The username keys sort
+   * in {@link UserPort#SEARCH_ORDER}, so at most {@code limit} of them are read; the email keys
+   * do not, so every email match is read to find those first by username.
+   */
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    lock.readLock().lock();
+    try {
+      final Map<Long, User> matches = new HashMap<>();
+      final var usernameMatches = prefixRange(idsByUsernamePrefix, prefix).iterator();
+      for (int found = 0; found < limit && usernameMatches.hasNext(); found++) {
+        final long id = usernameMatches.next();
+        read(id).ifPresent(user -> matches.put(id, user));
+      }
+      for (final long id : prefixRange(idsByEmailPrefix, prefix)) {
+        if (!matches.containsKey(id)) {
+          read(id).ifPresent(user -> matches.put(id, user));
+        }
+      }
+      return matches.values().stream()
+          .sorted(SEARCH_ORDER)
+          .limit(limit)
+          .collect(Collectors.toList());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private static Collection<Long> prefixRange(final NavigableMap<String, Long> keys, final String prefix) {
+    return keys.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    lock.readLock().lock();
+    try {
+      final var id = idsByUsername.get(username);
+      return id == null ? Optional.empty() : read(id);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return findExisting(idsByUsername, usernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return findExisting(idsByEmail, emails);
+  }
+
+  private Set<String> findExisting(final Map<String, Long> ids, final Collection<String> values) {
+    lock.readLock().lock();
+    try {
+      return values.stream().filter(ids::containsKey).collect(Collectors.toSet());
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    lock.writeLock().lock();
+    try {
+      final var current = read(id.toLong());
+      if (current.isEmpty() || expectedVersion != null && !expectedVersion.equals(current.get().getVersion())) {
+        return Optional.empty();
+      }
+      final var builder = current.get().toBuilder().version(current.get().getVersion() + 1);
+      if (changes.getUsername() != null) {
+        builder.username(changes.getUsername());
+      }
+      if (changes.getEmail() != null) {
+        builder.email(changes.getEmail());
+      }
+      if (changes.getUpdatedAt() != null) {
+        builder.updatedAt(changes.getUpdatedAt());
+      }
+      final var updated = builder.build();
+      checkUnique(updated);
+      writeUsers(List.of(updated));
+      return Optional.of(updated);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    lock.writeLock().lock();
+    try {
+      final var current = read(id.toLong());
+      if (current.isEmpty() || expectedVersion != null && !expectedVersion.equals(current.get().getVersion())) {
+        return 0;
+      }
+      final var tombstone = UserRecordCodec.encodeTombstone(id.toLong());
+      final int position = write(List.of(tombstone))[0];
+      apply(active, position, new Entry(id.toLong(), null, tombstone.length));
+      return 1;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Rewrites the live records of every sealed segment whose live share is at most the
+   * compaction threshold, then deletes it. Runs on the maintenance thread; package-private so
+   * tests can trigger it.
+   */
+  void compact() {
+    final List<Segment> candidates;
+    lock.readLock().lock();
+    try {
+      candidates = segments.values().stream()
+          .filter(segment -> segment != active)
+          .filter(segment -> segment.liveBytes() <= compactionThreshold * segment.writtenBytes())
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+    for (final Segment segment : candidates) {
+      // Sealed segments no longer change, so they can be read without the lock.
+      segment.forEachFrame((frameOffset, body) -> {
+        lock.writeLock().lock();
+        try {
+          moveLive(segment, frameOffset, body);
+        } finally {
+          lock.writeLock().unlock();
+        }
+      });
+      lock.writeLock().lock();
+      try {
+        segments.remove(segment.id());
+        segment.delete();
+      } catch (IOException e) {
+        // Replaying the file again after a restart is harmless: its live records were copied.
+        log.warn("Could not delete compacted segment {}", segment.id(), e);
+      } finally {
+        lock.writeLock().unlock();
+      }
+      compactions.increment();
+    }
+  }
+
+  private void compactQuietly() {
+    try {
+      compact();
+    } catch (RuntimeException e) {
+      log.warn("Compaction of the user log failed", e);
+    }
+  }
+
+  private void moveLive(final Segment segment, final int frameOffset, final ByteBuffer body) {
+    final boolean oldest = segments.firstKey() == segment.id();
+    final List<byte[]> records = new ArrayList<>();
+    final List<Entry> entries = new ArrayList<>();
+    while (body.hasRemaining()) {
+      final int start = body.position();
+      final long location = location(segment.id(), frameOffset + Segment.FRAME_HEADER_SIZE + start);
+      final var entry = UserRecordCodec.read(body);
+      // The tombstone of the highest id ever assigned is kept even in the oldest segment: ids are
+      // rebuilt from the replayed records, so without it that id would be handed out again.
+      final boolean live = entry.user() != null
+          ? index.get(entry.id()) == location
+          : index.get(entry.id()) == LongOffsetIndex.ABSENT && (!oldest || entry.id() == nextId - 1);
+      if (live) {
+        final var record = new byte[entry.length()];
+        body.get(start, record);
+        records.add(record);
+        entries.add(entry);
+      }
+    }
+    if (!records.isEmpty()) {
+      final int[] positions = write(records);
+      for (int i = 0; i < positions.length; i++) {
+        apply(active, positions[i], entries.get(i));
+      }
+    }
+  }
+
+  private void writeUsers(final List<User> users) {
+    final List<byte[]> records = users.stream().map(UserRecordCodec::encode).toList();
+    final int[] positions = write(records);
+    for (int i = 0; i < positions.length; i++) {
+      final var user = users.get(i);
+      apply(active, positions[i], new Entry(user.getId().toLong(), user, records.get(i).length));
+    }
+  }
+
+  /**
+   * Appends {@code records} to the active segment as one frame, starting a new segment if it
+   * does not fit, and returns the position of each record.
+   */
+  private int[] write(final List<byte[]> records) {
+    final int length = records.stream().mapToInt(record -> record.length).sum();
+    if (Segment.HEADER_SIZE + Segment.FRAME_HEADER_SIZE + (long) length > segmentSize) {
+      throw new IllegalArgumentException("A write of " + length + " bytes does not fit into a segment");
+    }
+    if (active.remaining() < Segment.FRAME_HEADER_SIZE + length) {
+      active.force();
+      active = newSegment(active.id() + 1);
+    }
+    final var body = ByteBuffer.allocate(length);
+    final int[] positions = new int[records.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = body.position();
+      body.put(records.get(i));
+    }
+    final int bodyOffset = active.append(body.flip());
+    if (fsyncPolicy == FsyncPolicy.ALWAYS) {
+      active.force();
+    }
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] += bodyOffset;
+    }
+    return positions;
+  }
+
+  private Segment newSegment(final int id) {
+    try {
+      final var segment = Segment.create(directory, id, segmentSize);
+      segments.put(id, segment);
+      return segment;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot create user log segment " + id, e);
+    }
+  }
+
+  /**
+   * Makes the record at {@code position} of {@code segment} the latest state of its user.
+   */
+  private void apply(final Segment segment, final int position, final Entry entry) {
+    nextId = Math.max(nextId, entry.id() + 1);
+    final long previous = entry.user() == null
+        ? index.remove(entry.id())
+        : index.put(entry.id(), location(segment.id(), position));
+    if (previous != LongOffsetIndex.ABSENT) {
+      final var superseded = decode(previous);
+      segments.get(segmentId(previous)).addLiveBytes(-superseded.length());
+      unmapKeys(superseded.user());
+    }
+    if (entry.user() != null) {
+      segment.addLiveBytes(entry.length());
+      mapKeys(entry.user());
+    }
+  }
+
+  private void mapKeys(final User user) {
+    final long id = user.getId().toLong();
+    idsByUsername.put(user.getUsername(), id);
+    idsByEmail.put(user.getEmail(), id);
+    idsByUsernamePrefix.put(prefixKey(user.getUsername()), id);
+    idsByEmailPrefix.put(prefixKey(user.getEmail()), id);
+  }
+
+  private void unmapKeys(final User user) {
+    final long id = user.getId().toLong();
+    idsByUsername.remove(user.getUsername(), id);
+    idsByEmail.remove(user.getEmail(), id);
+    idsByUsernamePrefix.remove(prefixKey(user.getUsername()), id);
+    idsByEmailPrefix.remove(prefixKey(user.getEmail()), id);
+  }
+
+  /**
+   * Sorts by the lower-cased value, so a prefix search is a range of keys; the value itself
+   * keeps keys of values differing only in case apart.
+   */
+  private static String prefixKey(final String value) {
+    return value.toLowerCase(Locale.ROOT) + '\u0000' + value;
+  }
+
+  private void checkUnique(final User user) {
+    final long id = user.getId().toLong();
+    final var usernameOwner = idsByUsername.get(user.getUsername());
+    if (usernameOwner != null && usernameOwner != id) {
+      throw duplicate("username", "Username already exists: " + user.getUsername());
+    }
+    final var emailOwner = idsByEmail.get(user.getEmail());
+    if (emailOwner != null && emailOwner != id) {
+      throw duplicate("email", "Email already exists: " + user.getEmail());
+    }
+  }
+
+  private static DataIntegrityViolationException duplicate(final String field, final String message) {
+    return new DataIntegrityViolationException(message, new DuplicateUserException(field, message));
+  }
+
+  private Optional<User> read(final long id) {
+    final long location = index.get(id);
+    return location == LongOffsetIndex.ABSENT ? Optional.empty() : Optional.of(decode(location).user());
+  }
+
+  private Entry decode(final long location) {
+    return UserRecordCodec.read(segments.get(segmentId(location)).view(offset(location)));
+  }
+
+  private static long location(final int segmentId, final int position) {
+    return (long) segmentId << 32 | position;
+  }
+
+  private static int segmentId(final long location) {
+    return (int) (location >>> 32);
+  }
+
+  private static int offset(final long location) {
+    return (int) location;
+  }
+
+  private void forceActive() {
+    lock.readLock().lock();
+    try {
+      active.force();
+    } catch (RuntimeException e) {
+      log.warn("Could not force the user log to disk", e);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private int segmentCount() {
+    lock.readLock().lock();
+    try {
+      return segments.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private double bytes(final boolean live) {
+    lock.readLock().lock();
+    try {
+      return segments.values().stream()
+          .mapToLong(segment -> live ? segment.liveBytes() : segment.writtenBytes())
+          .sum();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Stops the maintenance thread, forces all segments to disk and releases their mappings.
+   */
+  @Override
+  public void close() throws InterruptedException {
+    maintenance.shutdown();
+    maintenance.awaitTermination(1, TimeUnit.MINUTES);
+    lock.writeLock().lock();
+    try {
+      for (final Segment segment : segments.values()) {
+        segment.force();
+        segment.close();
+      }
+      segments.clear();
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+}
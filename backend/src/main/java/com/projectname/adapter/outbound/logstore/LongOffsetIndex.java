@@ -0,0 +1,109 @@
+package com.projectname.adapter.outbound.logstore;
+
+import java.util.Arrays;
+
+/**
+ * Map from user id to log location, kept in two parallel sorted {@code long} arrays.
+ *
+ * <p>Lookups are a binary search; as ids are handed out in increasing order, inserts append at
+ * the end. Sorted keys also make ordered range scans a walk over the arrays. Removed ids keep
+ * their slot, marked {@link #ABSENT}, until half of the slots are removed ones. Not
+ * thread-safe.</p>
+ */
+final class LongOffsetIndex {
+
+  static final long ABSENT = -1L;
+
+  private long[] keys = new long[1024];
+  private long[] values = new long[1024];
+  private int slots;
+  private int removed;
+
+  long get(final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, slots, key);
+    return slot >= 0 ? values[slot] : ABSENT;
+  }
+
+  /**
+   * Maps {@code key} to {@code value}, returning the previous value or {@link #ABSENT}.
+   */
+  long put(final long key, final long value) {
+    int slot = Arrays.binarySearch(keys, 0, slots, key);
+    if (slot >= 0) {
+      final long previous = values[slot];
+      values[slot] = value;
+      if (previous == ABSENT) {
+        removed--;
+      }
+      return previous;
+    }
+    slot = -slot - 1;
+    if (slots == keys.length) {
+      keys = Arrays.copyOf(keys, slots * 2);
+      values = Arrays.copyOf(values, slots * 2);
+    }
+    System.arraycopy(keys, slot, keys, slot + 1, slots - slot);
+    System.arraycopy(values, slot, values, slot + 1, slots - slot);
+    keys[slot] = key;
+    values[slot] = value;
+    slots++;
+    return ABSENT;
+  }
+
+  /**
+   * Removes {@code key}, returning its value or {@link #ABSENT}.
+   */
+  long remove(final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, slots, key);
+    if (slot < 0 || values[slot] == ABSENT) {
+      return ABSENT;
+    }
+    final long previous = values[slot];
+    values[slot] = ABSENT;
+    if (++removed > slots / 2) {
+      compact();
+    }
+    return previous;
+  }
+
+  int size() {
+    return slots - removed;
+  }
+
+  /**
+   * Returns the first slot whose key is greater than {@code key}, for use with
+   * {@link #keyAt(int)} and {@link #valueAt(int)} up to {@link #slots()}.
+   */
+  int slotAfter(final long key) {
+    final int slot = Arrays.binarySearch(keys, 0, slots, key);
+    return slot >= 0 ? slot + 1 : -slot - 1;
+  }
+
+  int slots() {
+    return slots;
+  }
+
+  long keyAt(final int slot) {
+    return keys[slot];
+  }
+
+  /**
+   * Value in {@code slot}, or {@link #ABSENT} if its key was removed.
+   */
+  long valueAt(final int slot) {
+    return values[slot];
+  }
+
+  private void compact() {
+    int target = 0;
+    for (int slot = 0; slot < slots; slot++) {
+      if (values[slot] != ABSENT) {
+        keys[target] = keys[slot];
+        values[target] = values[slot];
+        target++;
+      }
+    }
+    slots = target;
+    removed = 0;
+  }
+}
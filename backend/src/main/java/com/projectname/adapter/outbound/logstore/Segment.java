@@ -0,0 +1,222 @@
+package com.projectname.adapter.outbound.logstore;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One memory-mapped file of a user log.
+ *
+ * <p>The file starts with a magic number and format version, followed by frames: an
+ * {@code int} body length, the CRC-32C of the body, and the body itself, one or more records in
+ * {@link UserRecordCodec} form. A frame is the unit of atomicity: after a crash, a frame whose
+ * checksum does not match was not completely written and is discarded with everything after
+ * it. Unused space at the end of the file is zero, which reads as the end of the frames.</p>
+ *
+ * <p>The mapping is released when the segment is closed, so it must not be read afterwards.
+ * Not thread-safe; {@link LogStructuredUserPort} guards all access.</p>
+ */
+final class Segment implements AutoCloseable {
+
+  static final int HEADER_SIZE = 8;
+  static final int FRAME_HEADER_SIZE = 8;
+
+  private static final int MAGIC = 0x474C5355;
+  private static final int FORMAT_VERSION = 1;
+  private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private final int id;
+  private final Path path;
+  private final Arena arena;
+  private final MemorySegment memory;
+  private int writePosition = HEADER_SIZE;
+  private long liveBytes;
+
+  /**
+   * Receives the body of each frame together with the frame's offset in the segment.
+   */
+  @FunctionalInterface
+  interface FrameVisitor {
+    void visit(int frameOffset, ByteBuffer body);
+  }
+
+  private Segment(final int id, final Path path, final Arena arena, final MemorySegment memory) {
+    this.id = id;
+    this.path = path;
+    this.arena = arena;
+    this.memory = memory;
+  }
+
+  static Path path(final Path directory, final int id) {
+    return directory.resolve("users-%010d.log".formatted(id));
+  }
+
+  /**
+   * Creates and maps a new, empty segment of {@code size} bytes. The file is sparse, so unused
+   * space takes no disk blocks.
+   */
+  static Segment create(final Path directory, final int id, final long size) throws IOException {
+    final var path = path(directory, id);
+    final var segment = map(id, path, size, StandardOpenOption.CREATE_NEW);
+    segment.memory.set(INT, 0, MAGIC);
+    segment.memory.set(INT, 4, FORMAT_VERSION);
+    segment.memory.force();
+    return segment;
+  }
+
+  /**
+   * Maps an existing segment. Call {@link #recover(FrameVisitor)} before appending to it.
+   */
+  static Segment open(final Path path, final int id) throws IOException {
+    final var segment = map(id, path, Files.size(path));
+    if (segment.memory.byteSize() < HEADER_SIZE
+        || segment.memory.get(INT, 0) != MAGIC
+        || segment.memory.get(INT, 4) != FORMAT_VERSION) {
+      segment.close();
+      throw new IOException(path + " is not a user log segment");
+    }
+    return segment;
+  }
+
+  private static Segment map(final int id, final Path path, final long size, final StandardOpenOption... options)
+      throws IOException {
+    final var arena = Arena.ofShared();
+    try (var channel = FileChannel.open(path, withReadWrite(options))) {
+      return new Segment(id, path, arena, channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena));
+    } catch (IOException | RuntimeException e) {
+      arena.close();
+      throw e;
+    }
+  }
+
+  private static StandardOpenOption[] withReadWrite(final StandardOpenOption... options) {
+    final var all = new StandardOpenOption[options.length + 2];
+    all[0] = StandardOpenOption.READ;
+    all[1] = StandardOpenOption.WRITE;
+    System.arraycopy(options, 0, all, 2, options.length);
+    return all;
+  }
+
+  /**
+   * Passes every intact frame to {@code visitor} and positions further appends after the last
+   * one. A torn frame and whatever follows it are zeroed.
+   *
+   * @return the number of bytes of the torn frame that were discarded, 0 if there was none
+   */
+  long recover(final FrameVisitor visitor) {
+    int position = HEADER_SIZE;
+    while (position + FRAME_HEADER_SIZE <= memory.byteSize()) {
+      final int length = memory.get(INT, position);
+      if (length == 0) {
+        break;
+      }
+      if (length < 0 || position + FRAME_HEADER_SIZE + (long) length > memory.byteSize()
+          || checksum(position + FRAME_HEADER_SIZE, length) != memory.get(INT, position + 4)) {
+        final long torn = Math.min(memory.byteSize() - position, FRAME_HEADER_SIZE + Math.max(length, 0L));
+        memory.asSlice(position, torn).fill((byte) 0);
+        memory.force();
+        writePosition = position;
+        return torn;
+      }
+      // Before the visit, which may read earlier records of this segment through view().
+      writePosition = position + FRAME_HEADER_SIZE + length;
+      visitor.visit(position, body(position, length));
+      position = writePosition;
+    }
+    writePosition = position;
+    return 0;
+  }
+
+  /**
+   * Passes every frame written so far to {@code visitor}, without verifying checksums.
+   */
+  void forEachFrame(final FrameVisitor visitor) {
+    int position = HEADER_SIZE;
+    while (position < writePosition) {
+      final int length = memory.get(INT, position);
+      visitor.visit(position, body(position, length));
+      position += FRAME_HEADER_SIZE + length;
+    }
+  }
+
+  /**
+   * Writes a frame around {@code body}, which must fit into {@link #remaining()}.
+   *
+   * @return the offset of the frame's body in the segment
+   */
+  int append(final ByteBuffer body) {
+    final int length = body.remaining();
+    final int bodyOffset = writePosition + FRAME_HEADER_SIZE;
+    MemorySegment.copy(MemorySegment.ofBuffer(body), 0, memory, bodyOffset, length);
+    memory.set(INT, writePosition + 4, checksum(bodyOffset, length));
+    // The length goes last: until it is set, the frame reads as the end of the segment.
+    memory.set(INT, writePosition, length);
+    writePosition = bodyOffset + length;
+    return bodyOffset;
+  }
+
+  /**
+   * A little-endian view of the segment from {@code position} to the end of the written frames.
+   */
+  ByteBuffer view(final int position) {
+    return memory.asSlice(position, writePosition - position).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private ByteBuffer body(final int position, final int length) {
+    return memory.asSlice(position + FRAME_HEADER_SIZE, length).asByteBuffer().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private int checksum(final long offset, final int length) {
+    final var crc = new CRC32C();
+    crc.update(memory.asSlice(offset, length).asByteBuffer());
+    return (int) crc.getValue();
+  }
+
+  int id() {
+    return id;
+  }
+
+  long remaining() {
+    return memory.byteSize() - writePosition;
+  }
+
+  /**
+   * Bytes taken by frames, including their headers.
+   */
+  long writtenBytes() {
+    return writePosition - HEADER_SIZE;
+  }
+
+  long liveBytes() {
+    return liveBytes;
+  }
+
+  void addLiveBytes(final long delta) {
+    liveBytes += delta;
+  }
+
+  void force() {
+    memory.force();
+  }
+
+  @Override
+  public void close() {
+    arena.close();
+  }
+
+  /**
+   * Closes the segment and deletes its file.
+   */
+  void delete() throws IOException {
+    close();
+    Files.delete(path);
+  }
+}
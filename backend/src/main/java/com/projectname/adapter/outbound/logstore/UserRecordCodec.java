@@ -0,0 +1,113 @@
+package com.projectname.adapter.outbound.logstore;
+
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Binary form of the records in a user log, all little-endian.
+ *
+ * <pre>
+ * user:      byte 1, long id, long version, timestamp createdAt, timestamp updatedAt,
+ *            string username, string email
+ * tombstone: byte 2, long id
+ * timestamp: byte 0 (null) | byte 1, long epochSecond, int nano, int offsetSeconds
+ * string:    unsigned short length, UTF-8 bytes
+ * </pre>
+ */
+final class UserRecordCodec {
+
+  static final byte USER = 1;
+  static final byte TOMBSTONE = 2;
+
+  private static final int TIMESTAMP_MAX_SIZE = 1 + 8 + 4 + 4;
+
+  /**
+   * A decoded record; {@code user} is {@code null} for a tombstone.
+   */
+  record Entry(long id, User user, int length) {
+  }
+
+  private UserRecordCodec() {
+  }
+
+  static byte[] encode(final User user) {
+    final var username = user.getUsername().getBytes(StandardCharsets.UTF_8);
+    final var email = user.getEmail().getBytes(StandardCharsets.UTF_8);
+    final var buffer = ByteBuffer.allocate(1 + 8 + 8 + 2 * TIMESTAMP_MAX_SIZE + 2 + username.length + 2 + email.length)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(USER).putLong(user.getId().toLong()).putLong(user.getVersion());
+    putTimestamp(buffer, user.getCreatedAt());
+    putTimestamp(buffer, user.getUpdatedAt());
+    putString(buffer, username);
+    putString(buffer, email);
+    return Arrays.copyOf(buffer.array(), buffer.position());
+  }
+
+  static byte[] encodeTombstone(final long id) {
+    return ByteBuffer.allocate(1 + 8).order(ByteOrder.LITTLE_ENDIAN).put(TOMBSTONE).putLong(id).array();
+  }
+
+  /**
+   * Decodes the record at the position of {@code buffer}, which must be little-endian, and
+   * leaves the position after it.
+   */
+  static Entry read(final ByteBuffer buffer) {
+    final int start = buffer.position();
+    final byte kind = buffer.get();
+    final long id = buffer.getLong();
+    if (kind == TOMBSTONE) {
+      return new Entry(id, null, buffer.position() - start);
+    }
+    if (kind != USER) {
+      throw new IllegalStateException("Unknown record kind " + kind + " at " + start);
+    }
+    final var user = User.builder()
+        .id(UserId.of(id))
+        .version(buffer.getLong())
+        .createdAt(getTimestamp(buffer))
+        .updatedAt(getTimestamp(buffer))
+        .username(getString(buffer))
+        .email(getString(buffer))
+        .build();
+    return new Entry(id, user, buffer.position() - start);
+  }
+
+  private static void putTimestamp(final ByteBuffer buffer, final OffsetDateTime timestamp) {
+    if (timestamp == null) {
+      buffer.put((byte) 0);
+      return;
+    }
+    buffer.put((byte) 1)
+        .putLong(timestamp.toEpochSecond())
+        .putInt(timestamp.getNano())
+        .putInt(timestamp.getOffset().getTotalSeconds());
+  }
+
+  private static OffsetDateTime getTimestamp(final ByteBuffer buffer) {
+    if (buffer.get() == 0) {
+      return null;
+    }
+    final var instant = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    return OffsetDateTime.ofInstant(instant, ZoneOffset.ofTotalSeconds(buffer.getInt()));
+  }
+
+  private static void putString(final ByteBuffer buffer, final byte[] value) {
+    if (value.length > 0xFFFF) {
+      throw new IllegalArgumentException("Value of " + value.length + " bytes is too long to store");
+    }
+    buffer.putShort((short) value.length).put(value);
+  }
+
+  private static String getString(final ByteBuffer buffer) {
+    final var bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,171 @@
+package com.projectname.adapter.outbound.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * DataSource for read-only work that spreads connections over replicas round-robin and falls
+ * back to the primary.
+ *
+ * <p>Each replica is checked periodically. A replica is skipped while it is unreachable, while
+ * it lags behind by more than the allowed maximum, or after a failed connection attempt until
+ * the next successful check. With no usable replica, connections come from the primary, so
+ * reads degrade to the write path instead of failing or returning stale data.</p>
+ *
+ * <p>Routing decisions are counted in {@code app.datasource.routed}, tagged with the chosen
+ * {@code target}. Replica state is exposed as {@code app.datasource.replica.lag} and
+ * {@code app.datasource.replica.available}.</p>
+ */
+@Slf4j
+public class ReadReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+  private static final String PRIMARY = "primary";
+
+  private final DataSource primary;
+  private final List<Replica> replicas = new ArrayList<>();
+  private final Duration maxLag;
+  private final String lagQuery;
+  private final AtomicInteger next = new AtomicInteger();
+  private final Counter primaryFallbacks;
+  private final ScheduledExecutorService checker;
+
+  public ReadReplicaDataSource(
+      DataSource primary,
+      Map<String, DataSource> replicas,
+      Duration maxLag,
+      String lagQuery,
+      Duration checkInterval,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.maxLag = maxLag;
+    this.lagQuery = lagQuery;
+    this.primaryFallbacks = routedCounter(meterRegistry, PRIMARY);
+    replicas.forEach((name, dataSource) -> {
+      Replica replica = new Replica(name, dataSource, routedCounter(meterRegistry, name));
+      Gauge.builder("app.datasource.replica.lag", replica, r -> r.lagMillis)
+          .description("Replication lag last reported by the replica")
+          .baseUnit("milliseconds")
+          .tag("replica", name)
+          .register(meterRegistry);
+      Gauge.builder("app.datasource.replica.available", replica, r -> r.available ? 1 : 0)
+          .description("Whether read-only transactions are currently routed to the replica")
+          .tag("replica", name)
+          .register(meterRegistry);
+      this.replicas.add(replica);
+    });
+    this.checker = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("read-replica-check").daemon().factory());
+    checker.scheduleWithFixedDelay(this::checkReplicas, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return route(DataSource::getConnection);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    return route(dataSource -> dataSource.getConnection(username, password));
+  }
+
+  private Connection route(ConnectionSource source) throws SQLException {
+    int start = Math.floorMod(next.getAndIncrement(), Math.max(replicas.size(), 1));
+    for (int i = 0; i < replicas.size(); i++) {
+      Replica replica = replicas.get((start + i) % replicas.size());
+      if (!replica.available) {
+        continue;
+      }
+      try {
+        Connection connection = source.open(replica.dataSource);
+        replica.routed.increment();
+        return connection;
+      } catch (SQLException e) {
+        log.warn("Replica {} refused a connection, routing reads elsewhere: {}", replica.name, e.getMessage());
+        replica.available = false;
+      }
+    }
+    primaryFallbacks.increment();
+    return source.open(primary);
+  }
+
+  private void checkReplicas() {
+    for (Replica replica : replicas) {
+      boolean wasAvailable = replica.available;
+      try (Connection connection = replica.dataSource.getConnection()) {
+        replica.lagMillis = measureLag(connection);
+        replica.available = replica.lagMillis <= maxLag.toMillis();
+      } catch (SQLException | RuntimeException e) {
+        replica.available = false;
+        log.debug("Replica {} check failed", replica.name, e);
+      }
+      if (wasAvailable != replica.available) {
+        log.info("Replica {} is now {} (lag {} ms)",
+            replica.name, replica.available ? "in rotation" : "out of rotation", replica.lagMillis);
+      }
+    }
+  }
+
+  private long measureLag(Connection connection) throws SQLException {
+    if (lagQuery == null || lagQuery.isBlank()) {
+      if (!connection.isValid(1)) {
+        throw new SQLException("Connection is not valid");
+      }
+      return 0;
+    }
+    try (var statement = connection.createStatement(); var resultSet = statement.executeQuery(lagQuery)) {
+      return resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+    }
+  }
+
+  private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("app.datasource.routed")
+        .description("Connections handed out for read-only transactions, by target")
+        .tag("target", target)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void close() throws Exception {
+    checker.shutdownNow();
+    for (Replica replica : replicas) {
+      if (replica.dataSource instanceof AutoCloseable closeable) {
+        closeable.close();
+      }
+    }
+  }
+
+  @FunctionalInterface
+  private interface ConnectionSource {
+
+    Connection open(DataSource dataSource) throws SQLException;
+  }
+
+  private static final class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final Counter routed;
+    private volatile boolean available;
+    private volatile long lagMillis;
+
+    private Replica(String name, DataSource dataSource, Counter routed) {
+      this.name = name;
+      this.dataSource = dataSource;
+      this.routed = routed;
+    }
+  }
+}
@@ -0,0 +1,30 @@
+package com.projectname.adapter.outbound.persistence;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. A JDBC batch counts once,
+ * however many rows it carries.
+ *
+ * <p>Registered through {@code hibernate.session_factory.statement_inspector}, so Hibernate
+ * creates the instance and the count lives in a thread-local.</p>
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+  private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+  @Override
+  public String inspect(String sql) {
+    COUNT.get()[0]++;
+    return sql;
+  }
+
+  /**
+   * Returns the number of statements prepared on this thread since the last reset, and resets it.
+   */
+  public static int reset() {
+    int count = COUNT.get()[0];
+    COUNT.remove();
+    return count;
+  }
+}
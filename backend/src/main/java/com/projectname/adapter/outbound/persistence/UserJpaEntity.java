@@ -11,7 +11,14 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+    @Index(name = "idx_users_username_lower", columnList = "username_lower"),
+    @Index(name = "idx_users_email_lower", columnList = "email_lower")
+}, uniqueConstraints = {
+    // Named, so a violation can be traced back to the field (see UserRepositoryAdapter).
+    @UniqueConstraint(name = UserJpaEntity.UNIQUE_USERNAME, columnNames = "username"),
+    @UniqueConstraint(name = UserJpaEntity.UNIQUE_EMAIL, columnNames = "email")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,14 +26,23 @@ import lombok.Setter;
 @Builder
 public class UserJpaEntity {
 
+  static final String UNIQUE_USERNAME = "uk_users_username";
+  static final String UNIQUE_EMAIL = "uk_users_email";
+
+  /**
+   * Pooled sequence ids let Hibernate assign ids without a round trip per insert, which is
+   * what allows inserts to be grouped into JDBC batches (IDENTITY disables batching).
+   * Primitive like {@code UserId}; 0 until the id is assigned.
+   */
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+  @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
+  private long id;
 
-  @Column(nullable = false, unique = true)
+  @Column(nullable = false)
   private String username;
 
-  @Column(nullable = false, unique = true)
+  @Column(nullable = false)
   private String email;
 
   @Column(name = "created_at")
@@ -34,4 +50,24 @@ public class UserJpaEntity {
 
   @Column(name = "updated_at")
   private OffsetDateTime updatedAt;
+
+  /**
+   * Incremented on every update. Hibernate adds it to the WHERE clause of updates and deletes,
+   * so writing a stale copy fails instead of overwriting a newer one.
+   */
+  @Version
+  @Column(nullable = false)
+  private Long version;
+
+  /**
+   * Lower-cased copies of username and email computed by the database, indexed for
+   * case-insensitive prefix search.
+   */
+  @Column(name = "username_lower", insertable = false, updatable = false,
+      columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(username))")
+  private String usernameLower;
+
+  @Column(name = "email_lower", insertable = false, updatable = false,
+      columnDefinition = "VARCHAR(255) GENERATED ALWAYS AS (LOWER(email))")
+  private String emailLower;
 }
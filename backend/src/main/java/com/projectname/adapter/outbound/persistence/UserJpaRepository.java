@@ -1,7 +1,16 @@
 package com.projectname.adapter.outbound.persistence;
 
-import com.projectname.domain.entity.User;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -12,4 +21,44 @@ import org.springframework.stereotype.Repository;
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
 
   UserJpaEntity findByUsername(String username);
+
+  List<UserJpaEntity> findByIdGreaterThanOrderByIdAsc(long id, Limit limit);
+
+  /**
+   * Index range scan on the lower-cased username; wildcards in the prefix are escaped.
+   */
+  List<UserJpaEntity> findByUsernameLowerStartingWithOrderByUsernameLowerAscUsernameAsc(String prefix, Limit limit);
+
+  /**
+   * Index range scan on the lower-cased email, with the matches sorted by username so that the
+   * limit keeps the ones a username-ordered search needs.
+   */
+  List<UserJpaEntity> findByEmailLowerStartingWithOrderByUsernameLowerAscUsernameAsc(String prefix, Limit limit);
+
+  @Query("select u.username from UserJpaEntity u where u.username in :usernames")
+  Set<String> findUsernamesIn(Collection<String> usernames);
+
+  @Query("select u.email from UserJpaEntity u where u.email in :emails")
+  Set<String> findEmailsIn(Collection<String> emails);
+
+  /**
+   * Forward-only cursor over all users. Must be consumed inside a transaction and closed.
+   */
+  @Query("select u from UserJpaEntity u order by u.id")
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  Stream<UserJpaEntity> streamAllOrderById();
+
+  /**
+   * Deletes in one statement. Unlike {@link #deleteById(Object)}, nothing is loaded first.
+   */
+  @Modifying
+  @Query("delete from UserJpaEntity u where u.id = :id")
+  int deleteRowById(long id);
+
+  @Modifying
+  @Query("delete from UserJpaEntity u where u.id = :id and u.version = :version")
+  int deleteRowByIdAndVersion(long id, Long version);
 }
@@ -3,26 +3,79 @@ package com.projectname.adapter.outbound.persistence;
 import com.projectname.adapter.outbound.persistence.mapper.UserJpaMapper;
 import com.projectname.application.port.UserPort;
 import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.DuplicateUserException;
+import com.projectname.domain.exception.VersionConflictException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.projectname.domain.value.UserId;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
-@Component
+/**
+ * Stores users in the relational database through JPA. Registered as the
+ * {@code userPersistence} bean that UserPortConfig decorates, except under the
+ * {@code logstore} profile, which stores users without a database, and the {@code sharding}
+ * profile, which spreads them over several.
+ */
+@Component("userPersistence")
+@Profile("!logstore & !sharding")
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserPort {
 
+  /**
+   * IDs per IN list. Bounded, so a large lookup becomes a few statements with a reusable plan
+   * rather than one statement with thousands of parameters.
+   */
+  static final int IN_LIST_CHUNK_SIZE = 250;
+
   private final UserJpaRepository userJpaRepository;
   private final UserJpaMapper userJpaMapper;
+  private final EntityManager entityManager;
 
   @Override
   public User save(User user) {
     UserJpaEntity entity = userJpaMapper.toJpaEntity(user);
-    UserJpaEntity saved = userJpaRepository.save(entity);
-    return userJpaMapper.toDomain(saved);
+    try {
+      UserJpaEntity saved = userJpaRepository.save(entity);
+      return userJpaMapper.toDomain(saved);
+    } catch (DataIntegrityViolationException e) {
+      throw duplicate(e, user);
+    } catch (OptimisticLockingFailureException e) {
+      throw new VersionConflictException("User " + user.getId().toLong() + " was modified concurrently", e);
+    }
+  }
+
+  @Override
+  @Transactional
+  public List<User> saveAll(List<User> users) {
+    List<UserJpaEntity> entities = users.stream().map(userJpaMapper::toJpaEntity).toList();
+    // Flush inside the call so constraint violations surface here rather than at commit.
+    try {
+      return userJpaRepository.saveAllAndFlush(entities).stream()
+          .map(userJpaMapper::toDomain)
+          .collect(Collectors.toList());
+    } catch (DataIntegrityViolationException e) {
+      throw duplicate(e, null);
+    }
   }
 
   @Override
@@ -30,6 +83,19 @@ public class UserRepositoryAdapter implements UserPort {
     return userJpaRepository.findById(id.toLong()).map(userJpaMapper::toDomain);
   }
 
+  @Override
+  public List<User> findAllById(Collection<UserId> ids) {
+    List<Long> values = ids.stream().map(UserId::toLong).toList();
+    List<User> users = new ArrayList<>(values.size());
+    for (int from = 0; from < values.size(); from += IN_LIST_CHUNK_SIZE) {
+      List<Long> chunk = values.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, values.size()));
+      for (UserJpaEntity entity : userJpaRepository.findAllById(chunk)) {
+        users.add(userJpaMapper.toDomain(entity));
+      }
+    }
+    return users;
+  }
+
   @Override
   public List<User> findAll() {
     return userJpaRepository.findAll().stream()
@@ -37,6 +103,46 @@ public class UserRepositoryAdapter implements UserPort {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<User> findAllAfter(UserId after, int limit) {
+    long lowerBound = after == null ? 0L : after.toLong();
+    return userJpaRepository.findByIdGreaterThanOrderByIdAsc(lowerBound, Limit.of(limit)).stream()
+        .map(userJpaMapper::toDomain)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void streamAll(Consumer<User> consumer) {
+    try (var entities = userJpaRepository.streamAllOrderById()) {
+      entities.forEach(entity -> {
+        consumer.accept(userJpaMapper.toDomain(entity));
+        // Keep the persistence context from growing with the number of rows read.
+        entityManager.detach(entity);
+      });
+    }
+  }
+
+  /**
+   * Runs one bounded index range scan per column and merges the two result lists, which keeps
+   * both lookups on their index where a single OR query might not. Both lists come in
+   * {@link UserPort#SEARCH_ORDER}, so each holds every user of its column that can make the
+   * first {@code limit}; a user matching on both is kept once.
+   */
+  @Override
+  public List<User> searchByPrefix(String prefix, int limit) {
+    Map<Long, UserJpaEntity> matches = new HashMap<>();
+    userJpaRepository.findByUsernameLowerStartingWithOrderByUsernameLowerAscUsernameAsc(prefix, Limit.of(limit))
+        .forEach(entity -> matches.put(entity.getId(), entity));
+    userJpaRepository.findByEmailLowerStartingWithOrderByUsernameLowerAscUsernameAsc(prefix, Limit.of(limit))
+        .forEach(entity -> matches.putIfAbsent(entity.getId(), entity));
+    return matches.values().stream()
+        .map(userJpaMapper::toDomain)
+        .sorted(UserPort.SEARCH_ORDER)
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   @Override
   public Optional<User> findByUsername(String username) {
     UserJpaEntity entity = userJpaRepository.findByUsername(username);
@@ -44,7 +150,109 @@ public class UserRepositoryAdapter implements UserPort {
   }
 
   @Override
-  public void deleteById(UserId id) {
-    userJpaRepository.deleteById(id.toLong());
+  public Set<String> findExistingUsernames(Collection<String> usernames) {
+    if (usernames.isEmpty()) {
+      return Set.of();
+    }
+    return userJpaRepository.findUsernamesIn(usernames);
+  }
+
+  @Override
+  public Set<String> findExistingEmails(Collection<String> emails) {
+    if (emails.isEmpty()) {
+      return Set.of();
+    }
+    return userJpaRepository.findEmailsIn(emails);
+  }
+
+  /**
+   * Writes only the columns set on {@code changes} with one conditional JPQL UPDATE, then reads
+   * that row back. Both statements are portable across databases. Pending changes are flushed
+   * before the bulk update; afterwards only the updated user is re-read, so the other entities
+   * of the caller's persistence context stay attached.
+   */
+  @Override
+  @Transactional
+  public Optional<User> update(UserId id, User changes, Long expectedVersion) {
+    StringBuilder jpql = new StringBuilder("update UserJpaEntity u set u.version = u.version + 1");
+    Map<String, Object> parameters = new LinkedHashMap<>();
+    if (changes.getUsername() != null) {
+      jpql.append(", u.username = :username");
+      parameters.put("username", changes.getUsername());
+    }
+    if (changes.getEmail() != null) {
+      jpql.append(", u.email = :email");
+      parameters.put("email", changes.getEmail());
+    }
+    if (changes.getUpdatedAt() != null) {
+      jpql.append(", u.updatedAt = :updatedAt");
+      parameters.put("updatedAt", changes.getUpdatedAt());
+    }
+    jpql.append(" where u.id = :id");
+    parameters.put("id", id.toLong());
+    if (expectedVersion != null) {
+      jpql.append(" and u.version = :version");
+      parameters.put("version", expectedVersion);
+    }
+
+    entityManager.flush();
+    Query query = entityManager.createQuery(jpql.toString());
+    parameters.forEach(query::setParameter);
+    int updated;
+    try {
+      updated = query.executeUpdate();
+    } catch (ConstraintViolationException e) {
+      // Bulk statements bypass the repository's exception translation.
+      throw duplicate(new DataIntegrityViolationException("Username or email already exists", e), changes);
+    }
+    if (updated == 0) {
+      return Optional.empty();
+    }
+    // A copy already in the persistence context is stale and refreshed; otherwise the reference
+    // is loaded on first access. Either way, one SELECT of this row.
+    UserJpaEntity entity = entityManager.getReference(UserJpaEntity.class, id.toLong());
+    if (Hibernate.isInitialized(entity)) {
+      entityManager.refresh(entity);
+    }
+    return Optional.of(userJpaMapper.toDomain(entity));
+  }
+
+  /**
+   * Names the field behind a unique constraint violation by the constraint names declared on
+   * {@link UserJpaEntity}, attaching it as a {@link DuplicateUserException} cause.
+   *
+   * @param user the written user, for the value in the message; {@code null} for a batch
+   */
+  private static DataIntegrityViolationException duplicate(DataIntegrityViolationException e, User user) {
+    String constraint = null;
+    for (Throwable cause = e; cause != null && constraint == null; cause = cause.getCause()) {
+      if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+        constraint = violation.getConstraintName().toLowerCase(Locale.ROOT);
+      }
+    }
+    String field;
+    String message;
+    if (constraint != null && constraint.contains(UserJpaEntity.UNIQUE_USERNAME)) {
+      field = "username";
+      message = "Username already exists" + (user == null ? "" : ": " + user.getUsername());
+    } else if (constraint != null && constraint.contains(UserJpaEntity.UNIQUE_EMAIL)) {
+      field = "email";
+      message = "Email already exists" + (user == null ? "" : ": " + user.getEmail());
+    } else {
+      return e;
+    }
+    DataIntegrityViolationException duplicate =
+        new DataIntegrityViolationException(message, new DuplicateUserException(field, message));
+    duplicate.addSuppressed(e);
+    return duplicate;
+  }
+
+  @Override
+  @Transactional
+  public int deleteById(UserId id, Long expectedVersion) {
+    if (expectedVersion == null) {
+      return userJpaRepository.deleteRowById(id.toLong());
+    }
+    return userJpaRepository.deleteRowByIdAndVersion(id.toLong(), expectedVersion);
   }
 }
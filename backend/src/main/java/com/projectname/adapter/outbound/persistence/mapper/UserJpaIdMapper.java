@@ -6,16 +6,19 @@ import org.mapstruct.Mapper;
 @Mapper
 public interface UserJpaIdMapper {
 
-  default UserId toUserId(final Long value) {
-    if (value == null) {
+  /**
+   * Maps the unassigned entity id 0 to no id.
+   */
+  default UserId toUserId(final long value) {
+    if (value == 0) {
       return null;
     }
     return UserId.of(value);
   }
 
-  default Long toLong(final UserId userId) {
+  default long toLong(final UserId userId) {
     if (userId == null) {
-      return null;
+      return 0;
     }
     return userId.toLong();
   }
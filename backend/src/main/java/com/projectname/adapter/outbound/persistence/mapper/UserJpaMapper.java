@@ -3,10 +3,13 @@ package com.projectname.adapter.outbound.persistence.mapper;
 import com.projectname.adapter.outbound.persistence.UserJpaEntity;
 import com.projectname.domain.entity.User;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(uses = {UserJpaIdMapper.class})
 public interface UserJpaMapper {
 
+  @Mapping(target = "usernameLower", ignore = true)
+  @Mapping(target = "emailLower", ignore = true)
   UserJpaEntity toJpaEntity(User user);
 
   User toDomain(UserJpaEntity userJpaEntity);
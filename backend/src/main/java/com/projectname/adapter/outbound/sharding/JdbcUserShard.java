@@ -0,0 +1,222 @@
+package com.projectname.adapter.outbound.sharding;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * The users table of one shard, accessed with plain JDBC.
+ *
+ * <p>Ids come from the shard's own sequence, which starts at the shard's index plus one and
+ * steps by the number of shards, so every id tells which shard holds it (see
+ * {@link ShardedUserPort}). Writes that read before they write run in a local transaction of
+ * the shard with the row locked.</p>
+ */
+public class JdbcUserShard implements AutoCloseable {
+
+  /**
+   * IDs per IN list, as in the JPA adapter.
+   */
+  static final int IN_LIST_CHUNK_SIZE = 250;
+
+  private static final String COLUMNS = "id, username, email, created_at, updated_at, version";
+
+  private final int index;
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbc;
+  private final TransactionTemplate transactions;
+
+  /**
+   * The state of a user before and after an update.
+   */
+  record Change(User before, User after) {
+  }
+
+  public JdbcUserShard(final int index, final DataSource dataSource) {
+    this.index = index;
+    this.dataSource = dataSource;
+    this.jdbc = new JdbcTemplate(dataSource);
+    this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+  }
+
+  /**
+   * Creates the users table and the id sequence of shard {@code index} of {@code shardCount}
+   * unless they exist. Meant for local and test databases; production schemas are managed
+   * outside the application.
+   */
+  public static void initializeSchema(final DataSource dataSource, final int index, final int shardCount) {
+    new ResourceDatabasePopulator(new ClassPathResource("sharding/shard-schema.sql")).execute(dataSource);
+    new JdbcTemplate(dataSource).execute(
+        "CREATE SEQUENCE IF NOT EXISTS users_seq START WITH %d INCREMENT BY %d".formatted(index + 1, shardCount));
+  }
+
+  int index() {
+    return index;
+  }
+
+  List<Long> nextIds(final int count) {
+    final List<Long> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(jdbc.queryForObject("SELECT NEXT VALUE FOR users_seq", Long.class));
+    }
+    return ids;
+  }
+
+  /**
+   * Inserts users that already have their id, all or none of them.
+   */
+  void insertAll(final List<User> users) {
+    transactions.executeWithoutResult(status -> jdbc.batchUpdate(
+        "INSERT INTO users (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)",
+        users,
+        users.size(),
+        (statement, user) -> {
+          statement.setLong(1, user.getId().toLong());
+          statement.setString(2, user.getUsername());
+          statement.setString(3, user.getEmail());
+          statement.setObject(4, user.getCreatedAt());
+          statement.setObject(5, user.getUpdatedAt());
+          statement.setLong(6, user.getVersion());
+        }));
+  }
+
+  /**
+   * Deletes the given users unconditionally, to undo an insert.
+   */
+  void deleteAll(final List<Long> ids) {
+    forEachChunk(ids, chunk -> jdbc.update("DELETE FROM users WHERE id IN (" + placeholders(chunk) + ")",
+        chunk.toArray()));
+  }
+
+  Optional<User> findById(final long id) {
+    return jdbc.query("SELECT " + COLUMNS + " FROM users WHERE id = ?", JdbcUserShard::toUser, id)
+        .stream()
+        .findFirst();
+  }
+
+  List<User> findAllById(final List<Long> ids) {
+    final List<User> users = new ArrayList<>(ids.size());
+    forEachChunk(ids, chunk -> users.addAll(jdbc.query(
+        "SELECT " + COLUMNS + " FROM users WHERE id IN (" + placeholders(chunk) + ")",
+        JdbcUserShard::toUser, chunk.toArray())));
+    return users;
+  }
+
+  List<User> findAll() {
+    return jdbc.query("SELECT " + COLUMNS + " FROM users ORDER BY id", JdbcUserShard::toUser);
+  }
+
+  List<User> findAfter(final long after, final int limit) {
+    return jdbc.query("SELECT " + COLUMNS + " FROM users WHERE id > ? ORDER BY id FETCH FIRST ? ROWS ONLY",
+        JdbcUserShard::toUser, after, limit);
+  }
+
+  /**
+   * Like the JPA adapter: one index range scan per column, each sorted by username and cut at
+   * {@code limit}, merged without duplicates in {@link UserPort#SEARCH_ORDER}.
+   */
+  List<User> searchByPrefix(final String prefix, final int limit) {
+    final var pattern = prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    final Map<Long, User> matches = new HashMap<>();
+    for (final String column : List.of("username_lower", "email_lower")) {
+      jdbc.query("SELECT " + COLUMNS + " FROM users WHERE " + column + " LIKE ? ESCAPE '\\'"
+              + " ORDER BY username_lower, username FETCH FIRST ? ROWS ONLY", JdbcUserShard::toUser, pattern, limit)
+          .forEach(user -> matches.putIfAbsent(user.getId().toLong(), user));
+    }
+    return matches.values().stream()
+        .sorted(UserPort.SEARCH_ORDER)
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Writes the non-null username, email and updatedAt of {@code changes} and increments the
+   * version, if the user exists and, when {@code expectedVersion} is set, is at that version.
+   */
+  Optional<Change> update(final long id, final User changes, final Long expectedVersion) {
+    return transactions.execute(status -> lockRow(id, expectedVersion).map(before -> {
+      final var builder = before.toBuilder().version(before.getVersion() + 1);
+      if (changes.getUsername() != null) {
+        builder.username(changes.getUsername());
+      }
+      if (changes.getEmail() != null) {
+        builder.email(changes.getEmail());
+      }
+      if (changes.getUpdatedAt() != null) {
+        builder.updatedAt(changes.getUpdatedAt());
+      }
+      final var after = builder.build();
+      jdbc.update("UPDATE users SET username = ?, email = ?, updated_at = ?, version = ? WHERE id = ?",
+          after.getUsername(), after.getEmail(), after.getUpdatedAt(), after.getVersion(), id);
+      return new Change(before, after);
+    }));
+  }
+
+  /**
+   * Deletes the user if it exists and, when {@code expectedVersion} is set, is at that version.
+   *
+   * @return the deleted user
+   */
+  Optional<User> delete(final long id, final Long expectedVersion) {
+    return transactions.execute(status -> lockRow(id, expectedVersion).map(user -> {
+      jdbc.update("DELETE FROM users WHERE id = ?", id);
+      return user;
+    }));
+  }
+
+  private Optional<User> lockRow(final long id, final Long expectedVersion) {
+    return jdbc.query("SELECT " + COLUMNS + " FROM users WHERE id = ? FOR UPDATE", JdbcUserShard::toUser, id)
+        .stream()
+        .findFirst()
+        .filter(user -> expectedVersion == null || expectedVersion.equals(user.getVersion()));
+  }
+
+  private static User toUser(final ResultSet row, final int rowNumber) throws SQLException {
+    return User.builder()
+        .id(UserId.of(row.getLong("id")))
+        .username(row.getString("username"))
+        .email(row.getString("email"))
+        .createdAt(row.getObject("created_at", OffsetDateTime.class))
+        .updatedAt(row.getObject("updated_at", OffsetDateTime.class))
+        .version(row.getLong("version"))
+        .build();
+  }
+
+  private static void forEachChunk(final List<Long> ids, final Consumer<List<Long>> action) {
+    for (int from = 0; from < ids.size(); from += IN_LIST_CHUNK_SIZE) {
+      action.accept(ids.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, ids.size())));
+    }
+  }
+
+  private static String placeholders(final Collection<?> values) {
+    return String.join(", ", Collections.nCopies(values.size(), "?"));
+  }
+
+  /**
+   * Closes the shard's connection pool, if it has one.
+   */
+  @Override
+  public void close() throws Exception {
+    if (dataSource instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+}
@@ -0,0 +1,399 @@
+package com.projectname.adapter.outbound.sharding;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.VersionConflictException;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Spreads users over several databases ({@link JdbcUserShard shards}).
+ *
+ * <p>New users go to the shards in turn and take their id from that shard's sequence, which
+ * only hands out ids congruent to the shard's index, so {@code (id - 1) mod shards} routes
+ * every read, update and delete by id to a single shard without a lookup. Usernames and emails
+ * are claimed in a global {@link UserDirectory}, which keeps them unique across shards and
+ * answers lookups by username.</p>
+ *
+ * <p>Listings are scatter-gather: every shard is queried in parallel on virtual threads, and
+ * the per-shard results, each ordered by id, are combined by a k-way merge, so a page costs
+ * one bounded query per shard. {@link #streamAll(Consumer)} merges shard pages as they are
+ * consumed, holding at most a page per shard.</p>
+ *
+ * <p>Writes span the directory and a shard, which have no common transaction: keys are claimed
+ * first and released again if the shard write fails, and a batch whose insert fails on one
+ * shard is deleted from the others. A crash between the two steps can leave keys claimed
+ * without a user. Each shard call is timed as {@code app.user.shard}, tagged by shard and
+ * operation.</p>
+ */
+public class ShardedUserPort implements UserPort, AutoCloseable {
+
+  /**
+   * Users read from each shard per query by {@link #streamAll(Consumer)}.
+   */
+  static final int STREAM_PAGE_SIZE = 256;
+
+  private static final String DIRECTORY = "directory";
+
+  private final List<JdbcUserShard> shards;
+  private final UserDirectory directory;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final AtomicInteger nextShard = new AtomicInteger();
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public ShardedUserPort(
+      final List<JdbcUserShard> shards, final UserDirectory directory, final MeterRegistry meterRegistry) {
+    if (shards.isEmpty()) {
+      throw new IllegalArgumentException("At least one shard is required");
+    }
+    this.shards = List.copyOf(shards);
+    this.directory = directory;
+    this.meterRegistry = meterRegistry;
+  }
+
+  private JdbcUserShard shardOf(final long id) {
+    return shards.get(Math.floorMod(id - 1, shards.size()));
+  }
+
+  @Override
+  public User save(final User user) {
+    if (user.getId() == null) {
+      return saveAll(List.of(user)).getFirst();
+    }
+    // As with the JPA adapter, a missing row or a stale version is a concurrent modification.
+    return update(user.getId(), user, user.getVersion())
+        .orElseThrow(() -> new VersionConflictException(
+            "User " + user.getId().toLong() + " was modified concurrently"));
+  }
+
+  @Override
+  public List<User> saveAll(final List<User> users) {
+    final Map<JdbcUserShard, Integer> counts = new LinkedHashMap<>();
+    final List<JdbcUserShard> targets = new ArrayList<>(users.size());
+    for (int i = 0; i < users.size(); i++) {
+      final var shard = shards.get(Math.floorMod(nextShard.getAndIncrement(), shards.size()));
+      targets.add(shard);
+      counts.merge(shard, 1, Integer::sum);
+    }
+    final Map<JdbcUserShard, Iterator<Long>> ids = new LinkedHashMap<>();
+    final var allocated = scatter(counts.keySet(), "nextIds", shard -> shard.nextIds(counts.get(shard)));
+    int next = 0;
+    for (final JdbcUserShard shard : counts.keySet()) {
+      ids.put(shard, allocated.get(next++).iterator());
+    }
+
+    final List<User> stored = new ArrayList<>(users.size());
+    final Map<JdbcUserShard, List<User>> byShard = new LinkedHashMap<>();
+    for (int i = 0; i < users.size(); i++) {
+      final var shard = targets.get(i);
+      final var user = users.get(i).toBuilder().id(UserId.of(ids.get(shard).next())).version(0L).build();
+      stored.add(user);
+      byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(user);
+    }
+    final var keys = stored.stream().flatMap(user -> UserDirectory.keysOf(user).stream()).toList();
+    timed(DIRECTORY, "claim", () -> {
+      directory.claim(keys);
+      return null;
+    });
+
+    final Map<JdbcUserShard, Future<?>> inserts = new LinkedHashMap<>();
+    byShard.forEach((shard, shardUsers) -> inserts.put(shard, executor.submit(
+        () -> timed(Integer.toString(shard.index()), "insertAll", () -> {
+          shard.insertAll(shardUsers);
+          return null;
+        }))));
+    RuntimeException failure = null;
+    final List<JdbcUserShard> inserted = new ArrayList<>();
+    for (final var insert : inserts.entrySet()) {
+      try {
+        join(insert.getValue());
+        inserted.add(insert.getKey());
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.addSuppressed(e);
+        }
+      }
+    }
+    if (failure != null) {
+      // Undo the shards that did insert, then free the keys whatever happens; errors on the
+      // way are attached to the insert failure rather than replacing it.
+      try {
+        for (final JdbcUserShard shard : inserted) {
+          try {
+            shard.deleteAll(byShard.get(shard).stream().map(user -> user.getId().toLong()).toList());
+          } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+          }
+        }
+      } finally {
+        release(keys, failure);
+      }
+      throw failure;
+    }
+    return stored;
+  }
+
+  /**
+   * Releases keys claimed for a write that failed with {@code failure}, keeping that failure as
+   * the one reported.
+   */
+  private void release(final List<UserDirectory.Key> keys, final RuntimeException failure) {
+    try {
+      directory.release(keys);
+    } catch (RuntimeException e) {
+      failure.addSuppressed(e);
+    }
+  }
+
+  @Override
+  public Optional<User> findById(final UserId id) {
+    final var shard = shardOf(id.toLong());
+    return timed(Integer.toString(shard.index()), "findById", () -> shard.findById(id.toLong()));
+  }
+
+  @Override
+  public List<User> findAllById(final Collection<UserId> ids) {
+    final Map<JdbcUserShard, List<Long>> byShard = ids.stream()
+        .map(UserId::toLong)
+        .collect(Collectors.groupingBy(this::shardOf, LinkedHashMap::new, Collectors.toList()));
+    return scatter(byShard.keySet(), "findAllById", shard -> shard.findAllById(byShard.get(shard))).stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public List<User> findAll() {
+    final List<User> users = new ArrayList<>();
+    merge(cursors(scatter(shards, "findAll", JdbcUserShard::findAll), false), Integer.MAX_VALUE, users::add);
+    return users;
+  }
+
+  @Override
+  public List<User> findAllAfter(final UserId after, final int limit) {
+    final long lowerBound = after == null ? 0L : after.toLong();
+    final List<User> users = new ArrayList<>(limit);
+    merge(cursors(scatter(shards, "findAllAfter", shard -> shard.findAfter(lowerBound, limit)), false),
+        limit, users::add);
+    return users;
+  }
+
+  @Override
+  public void streamAll(final Consumer<User> consumer) {
+    final var firstPages = scatter(shards, "findAllAfter", shard -> shard.findAfter(0L, STREAM_PAGE_SIZE));
+    merge(cursors(firstPages, true), Integer.MAX_VALUE, consumer);
+  }
+
+  @Override
+  public List<User> searchByPrefix(final String prefix, final int limit) {
+    // Each shard answers its first matches in SEARCH_ORDER, so their union holds the overall first.
+    final Map<Long, User> matches = new HashMap<>();
+    scatter(shards, "searchByPrefix", shard -> shard.searchByPrefix(prefix, limit))
+        .forEach(users -> users.forEach(user -> matches.putIfAbsent(user.getId().toLong(), user)));
+    return matches.values().stream()
+        .sorted(SEARCH_ORDER)
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
+  @Override
+  public Optional<User> findByUsername(final String username) {
+    return timed(DIRECTORY, "find", () -> directory.find(UserDirectory.USERNAME, username))
+        .flatMap(id -> findById(UserId.of(id)));
+  }
+
+  @Override
+  public Set<String> findExistingUsernames(final Collection<String> usernames) {
+    return timed(DIRECTORY, "findExisting", () -> directory.findExisting(UserDirectory.USERNAME, usernames));
+  }
+
+  @Override
+  public Set<String> findExistingEmails(final Collection<String> emails) {
+    return timed(DIRECTORY, "findExisting", () -> directory.findExisting(UserDirectory.EMAIL, emails));
+  }
+
+  @Override
+  public Optional<User> update(final UserId id, final User changes, final Long expectedVersion) {
+    final var shard = shardOf(id.toLong());
+    final var claimed = timed(DIRECTORY, "claim", () -> directory.claimChanges(id.toLong(), changes));
+    Optional<JdbcUserShard.Change> change = Optional.empty();
+    RuntimeException failure = null;
+    try {
+      change = timed(Integer.toString(shard.index()), "update",
+          () -> shard.update(id.toLong(), changes, expectedVersion));
+    } catch (RuntimeException e) {
+      failure = e;
+      throw e;
+    } finally {
+      // Unless the row now holds the claimed keys, free them; a release error is attached to
+      // the update failure rather than replacing it.
+      if (change.isEmpty()) {
+        if (failure != null) {
+          release(claimed, failure);
+        } else {
+          directory.release(claimed);
+        }
+      }
+    }
+    if (change.isEmpty()) {
+      return Optional.empty();
+    }
+    directory.release(UserDirectory.replacedKeys(change.get().before(), change.get().after()));
+    return Optional.of(change.get().after());
+  }
+
+  @Override
+  public int deleteById(final UserId id, final Long expectedVersion) {
+    final var shard = shardOf(id.toLong());
+    final var deleted = timed(Integer.toString(shard.index()), "deleteById",
+        () -> shard.delete(id.toLong(), expectedVersion));
+    deleted.ifPresent(user -> directory.release(UserDirectory.keysOf(user)));
+    return deleted.isPresent() ? 1 : 0;
+  }
+
+  /**
+   * Runs {@code call} on every shard in {@code targets} in parallel and returns the results in
+   * the same order.
+   */
+  private <T> List<T> scatter(
+      final Collection<JdbcUserShard> targets, final String operation, final Function<JdbcUserShard, T> call) {
+    final List<Future<T>> futures = targets.stream()
+        .map(shard -> executor.submit(() -> timed(Integer.toString(shard.index()), operation, () -> call.apply(shard))))
+        .toList();
+    final List<T> results = new ArrayList<>(futures.size());
+    for (final Future<T> future : futures) {
+      results.add(join(future));
+    }
+    return results;
+  }
+
+  private static <T> T join(final Future<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for a user shard", e);
+    }
+  }
+
+  private <T> T timed(final String shard, final String operation, final Supplier<T> call) {
+    final var timer = timers.computeIfAbsent(shard + '/' + operation, key -> Timer.builder("app.user.shard")
+        .description("Time spent in calls to a single user shard or the user directory")
+        .tag("shard", shard)
+        .tag("operation", operation)
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+    final long start = System.nanoTime();
+    try {
+      return call.get();
+    } finally {
+      timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private List<ShardCursor> cursors(final List<List<User>> firstPages, final boolean paged) {
+    final List<ShardCursor> cursors = new ArrayList<>(shards.size());
+    for (int i = 0; i < firstPages.size(); i++) {
+      final var page = firstPages.get(i);
+      cursors.add(new ShardCursor(shards.get(i), page, paged && page.size() == STREAM_PAGE_SIZE));
+    }
+    return cursors;
+  }
+
+  /**
+   * K-way merge: repeatedly passes on the lowest id among the heads of the cursors.
+   */
+  private static void merge(final List<ShardCursor> cursors, final int limit, final Consumer<User> consumer) {
+    final var heads = new PriorityQueue<ShardCursor>(Comparator.comparingLong(cursor -> cursor.head.getId().toLong()));
+    for (final ShardCursor cursor : cursors) {
+      if (cursor.advance()) {
+        heads.add(cursor);
+      }
+    }
+    for (int emitted = 0; emitted < limit && !heads.isEmpty(); emitted++) {
+      final var cursor = heads.poll();
+      consumer.accept(cursor.head);
+      if (cursor.advance()) {
+        heads.add(cursor);
+      }
+    }
+  }
+
+  /**
+   * Position in one shard's users, ordered by id, fetching further pages on demand if
+   * {@code more} is set.
+   */
+  private final class ShardCursor {
+
+    private final JdbcUserShard shard;
+    private Iterator<User> page;
+    private boolean more;
+    private User head;
+
+    private ShardCursor(final JdbcUserShard shard, final List<User> firstPage, final boolean more) {
+      this.shard = shard;
+      this.page = firstPage.iterator();
+      this.more = more;
+    }
+
+    private boolean advance() {
+      if (!page.hasNext() && more) {
+        final long after = head.getId().toLong();
+        final var next = timed(Integer.toString(shard.index()), "findAllAfter",
+            () -> shard.findAfter(after, STREAM_PAGE_SIZE));
+        more = next.size() == STREAM_PAGE_SIZE;
+        page = next.iterator();
+      }
+      if (!page.hasNext()) {
+        return false;
+      }
+      head = page.next();
+      return true;
+    }
+  }
+
+  /**
+   * Stops the scatter threads and closes the connection pools of the shards and the directory.
+   */
+  @Override
+  public void close() throws Exception {
+    executor.close();
+    for (final JdbcUserShard shard : shards) {
+      shard.close();
+    }
+    directory.close();
+  }
+}
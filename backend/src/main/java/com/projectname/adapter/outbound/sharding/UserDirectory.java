@@ -0,0 +1,175 @@
+package com.projectname.adapter.outbound.sharding;
+
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.DuplicateUserException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Global index of the usernames and emails of all shards, in a database of its own.
+ *
+ * <p>Each key is a row whose primary key is the kind and the value, so the database rejects a
+ * value already claimed by another user, whichever shard holds that user. It also answers
+ * lookups by username without asking every shard.</p>
+ */
+public class UserDirectory implements AutoCloseable {
+
+  static final String USERNAME = "username";
+  static final String EMAIL = "email";
+
+  private final DataSource dataSource;
+  private final JdbcTemplate jdbc;
+  private final TransactionTemplate transactions;
+
+  /**
+   * A username or email claimed by a user.
+   */
+  record Key(String kind, String value, long userId) {
+  }
+
+  public UserDirectory(final DataSource dataSource) {
+    this.dataSource = dataSource;
+    this.jdbc = new JdbcTemplate(dataSource);
+    this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+  }
+
+  /**
+   * Creates the key table unless it exists. Meant for local and test databases.
+   */
+  public static void initializeSchema(final DataSource dataSource) {
+    new ResourceDatabasePopulator(new ClassPathResource("sharding/directory-schema.sql")).execute(dataSource);
+  }
+
+  static List<Key> keysOf(final User user) {
+    final long id = user.getId().toLong();
+    return List.of(new Key(USERNAME, user.getUsername(), id), new Key(EMAIL, user.getEmail(), id));
+  }
+
+  /**
+   * Keys of {@code before} that {@code after} no longer has.
+   */
+  static List<Key> replacedKeys(final User before, final User after) {
+    final List<Key> replaced = new ArrayList<>(2);
+    if (!Objects.equals(before.getUsername(), after.getUsername())) {
+      replaced.add(new Key(USERNAME, before.getUsername(), before.getId().toLong()));
+    }
+    if (!Objects.equals(before.getEmail(), after.getEmail())) {
+      replaced.add(new Key(EMAIL, before.getEmail(), before.getId().toLong()));
+    }
+    return replaced;
+  }
+
+  /**
+   * Claims all {@code keys} in one transaction, or none of them if any is taken.
+   *
+   * @throws org.springframework.dao.DataIntegrityViolationException if a key is taken or repeated
+   */
+  void claim(final List<Key> keys) {
+    if (keys.isEmpty()) {
+      return;
+    }
+    try {
+      transactions.executeWithoutResult(status -> jdbc.batchUpdate(
+          "INSERT INTO user_keys (kind, key_value, user_id) VALUES (?, ?, ?)",
+          keys,
+          keys.size(),
+          (statement, key) -> {
+            statement.setString(1, key.kind());
+            statement.setString(2, key.value());
+            statement.setLong(3, key.userId());
+          }));
+    } catch (DataIntegrityViolationException e) {
+      throw duplicate(keys, e);
+    }
+  }
+
+  /**
+   * Names the key that made a claim fail, once the claim has been rolled back, so callers can
+   * report which field is taken.
+   */
+  private DataIntegrityViolationException duplicate(final List<Key> keys, final DataIntegrityViolationException e) {
+    for (final Key key : keys) {
+      final var owner = find(key.kind(), key.value());
+      if (owner.isPresent() && owner.get() != key.userId()) {
+        final var message = (USERNAME.equals(key.kind()) ? "Username" : "Email") + " already exists: " + key.value();
+        final var duplicate = new DataIntegrityViolationException(message, new DuplicateUserException(key.kind(), message));
+        duplicate.addSuppressed(e);
+        return duplicate;
+      }
+    }
+    return e;
+  }
+
+  /**
+   * Claims the username and email set on {@code changes} for user {@code id}, skipping those it
+   * already holds.
+   *
+   * @return the keys that were newly claimed
+   */
+  List<Key> claimChanges(final long id, final User changes) {
+    final List<Key> claimed = new ArrayList<>(2);
+    if (changes.getUsername() != null && !find(USERNAME, changes.getUsername()).equals(Optional.of(id))) {
+      claimed.add(new Key(USERNAME, changes.getUsername(), id));
+    }
+    if (changes.getEmail() != null && !find(EMAIL, changes.getEmail()).equals(Optional.of(id))) {
+      claimed.add(new Key(EMAIL, changes.getEmail(), id));
+    }
+    claim(claimed);
+    return claimed;
+  }
+
+  /**
+   * Releases keys, but only while they still belong to the user they were claimed for.
+   */
+  void release(final List<Key> keys) {
+    for (final Key key : keys) {
+      jdbc.update("DELETE FROM user_keys WHERE kind = ? AND key_value = ? AND user_id = ?",
+          key.kind(), key.value(), key.userId());
+    }
+  }
+
+  Optional<Long> find(final String kind, final String value) {
+    return jdbc.queryForList("SELECT user_id FROM user_keys WHERE kind = ? AND key_value = ?", Long.class, kind, value)
+        .stream()
+        .findFirst();
+  }
+
+  Set<String> findExisting(final String kind, final Collection<String> values) {
+    final List<String> all = List.copyOf(values);
+    final Set<String> existing = new HashSet<>();
+    for (int from = 0; from < all.size(); from += JdbcUserShard.IN_LIST_CHUNK_SIZE) {
+      final var chunk = all.subList(from, Math.min(from + JdbcUserShard.IN_LIST_CHUNK_SIZE, all.size()));
+      final List<Object> parameters = new ArrayList<>(chunk.size() + 1);
+      parameters.add(kind);
+      parameters.addAll(chunk);
+      existing.addAll(jdbc.queryForList(
+          "SELECT key_value FROM user_keys WHERE kind = ? AND key_value IN ("
+              + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")",
+          String.class, parameters.toArray()));
+    }
+    return existing;
+  }
+
+  /**
+   * Closes the directory's connection pool, if it has one.
+   */
+  @Override
+  public void close() throws Exception {
+    if (dataSource instanceof AutoCloseable closeable) {
+      closeable.close();
+    }
+  }
+}
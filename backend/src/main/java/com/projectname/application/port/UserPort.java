@@ -3,15 +3,33 @@ package com.projectname.application.port;
 import com.projectname.domain.entity.User;
 import com.projectname.domain.value.UserId;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Outbound port for user persistence operations.
  * This interface defines the contract for user repository implementations.
+ *
+ * <p>Writes report a taken username or email as a
+ * {@link org.springframework.dao.DataIntegrityViolationException}. When the implementation can
+ * tell which of the two collided, the exception has a
+ * {@link com.projectname.domain.exception.DuplicateUserException} cause naming the field.</p>
  */
 public interface UserPort {
 
+  /**
+   * Order of {@link #searchByPrefix(String, int)} results: by lower-cased username as the
+   * {@code username_lower} index sorts, then by username, which is unique.
+   */
+  Comparator<User> SEARCH_ORDER = Comparator
+      .comparing((User user) -> user.getUsername().toLowerCase(Locale.ROOT))
+      .thenComparing(User::getUsername);
+
   /**
    * Saves a user (create or update).
    *
@@ -20,6 +38,15 @@ public interface UserPort {
    */
   User save(User user);
 
+  /**
+   * Inserts all given users in one transaction using batched statements. The call is
+   * all-or-nothing: if any row violates a constraint, none of them is stored.
+   *
+   * @param users the new users, without IDs
+   * @return the saved users with IDs populated, in the same order
+   */
+  List<User> saveAll(List<User> users);
+
   /**
    * Retrieves a user by ID.
    *
@@ -28,6 +55,15 @@ public interface UserPort {
    */
   Optional<User> findById(UserId id);
 
+  /**
+   * Retrieves the users with the given IDs, in no particular order. IDs without a user are
+   * left out. Implementations must read them with a bounded number of statements, not one per ID.
+   *
+   * @param ids the user IDs, without duplicates
+   * @return the users that exist
+   */
+  List<User> findAllById(Collection<UserId> ids);
+
   /**
    * Retrieves all users.
    *
@@ -35,6 +71,36 @@ public interface UserPort {
    */
   List<User> findAll();
 
+  /**
+   * Retrieves up to {@code limit} users with an id greater than {@code after}, ordered by id.
+   * Implementations must seek on the id index rather than skip rows, so the cost of a page
+   * does not depend on its position in the table.
+   *
+   * @param after the exclusive lower bound, or {@code null} to start from the first user
+   * @param limit the maximum number of users to return
+   * @return the users of the page, ordered by ascending id
+   */
+  List<User> findAllAfter(UserId after, int limit);
+
+  /**
+   * Passes every user, ordered by id, to {@code consumer} while the underlying rows are read.
+   * Implementations must not hold more than a bounded window of users in memory; the consumer
+   * runs on the calling thread, so a slow consumer slows down reading.
+   *
+   * @param consumer receives each user exactly once
+   */
+  void streamAll(Consumer<User> consumer);
+
+  /**
+   * Retrieves users whose lower-cased username or email starts with {@code prefix}.
+   *
+   * @param prefix lower-case prefix
+   * @param limit maximum number of users returned
+   * @return the first {@code limit} matching users in {@link #SEARCH_ORDER}, each once, whether
+   *     they matched on username, email or both
+   */
+  List<User> searchByPrefix(String prefix, int limit);
+
   /**
    * Retrieves a user by username.
    *
@@ -44,9 +110,39 @@ public interface UserPort {
   Optional<User> findByUsername(String username);
 
   /**
-   * Deletes a user by ID.
+   * Returns which of the given usernames are already taken.
+   *
+   * @param usernames the usernames to check
+   * @return the subset of {@code usernames} that exist
+   */
+  Set<String> findExistingUsernames(Collection<String> usernames);
+
+  /**
+   * Returns which of the given emails are already taken.
+   *
+   * @param emails the emails to check
+   * @return the subset of {@code emails} that exist
+   */
+  Set<String> findExistingEmails(Collection<String> emails);
+
+  /**
+   * Updates the fields set on {@code changes} with a single statement, leaving all other
+   * columns untouched, and increments the version.
+   *
+   * @param id the user ID
+   * @param changes the new values; {@code null} fields are not written
+   * @param expectedVersion if not {@code null}, only update while the user is at this version
+   * @return the updated user, or empty if no row matched
+   * @throws org.springframework.dao.DataIntegrityViolationException if the new username or email is taken
+   */
+  Optional<User> update(UserId id, User changes, Long expectedVersion);
+
+  /**
+   * Deletes a user by ID with a single statement, without loading it first.
    *
    * @param id the user ID
+   * @param expectedVersion if not {@code null}, only delete while the user is at this version
+   * @return the number of deleted rows, 0 or 1
    */
-  void deleteById(UserId id);
+  int deleteById(UserId id, Long expectedVersion);
 }
@@ -0,0 +1,28 @@
+package com.projectname.application.port.in;
+
+import com.projectname.domain.value.UserChangeBatch;
+
+/**
+ * Committed user changes, numbered by an increasing sequence, for readers that follow along
+ * instead of re-reading all users. Only a bounded number of recent changes is retained.
+ */
+public interface UserChangeFeed {
+
+  /**
+   * Returns the sequence number of the latest change, to start following from now on.
+   */
+  long latestSequence();
+
+  /**
+   * Returns up to {@code maxChanges} changes following {@code lastSequence}, oldest first. If
+   * some of them are no longer retained, or {@code lastSequence} is not from this feed, the
+   * batch requires a resync instead.
+   */
+  UserChangeBatch readAfter(long lastSequence, int maxChanges);
+
+  /**
+   * Registers a callback that runs after every new change. It runs on the thread that
+   * committed the change, so it must only hand the work off.
+   */
+  void addListener(Runnable listener);
+}
@@ -1,18 +1,32 @@
 package com.projectname.application.port.in;
 
 import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserBatchItem;
 import com.projectname.domain.value.UserId;
+import com.projectname.domain.value.UserLookupResult;
+import com.projectname.domain.value.UserPage;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface UserUseCase {
 
   User createUser(User user);
 
+  List<UserBatchItem> createUsers(List<User> users);
+
   User getUserById(UserId id);
 
+  UserLookupResult getUsersByIds(List<UserId> ids);
+
   List<User> getAllUsers();
 
-  User updateUser(UserId id, User userUpdates);
+  UserPage getUsers(UserId after, int limit);
+
+  void exportUsers(Consumer<User> sink);
+
+  List<User> searchUsers(String query, int limit);
+
+  User updateUser(UserId id, User userUpdates, Long expectedVersion);
 
-  void deleteUser(UserId id);
+  void deleteUser(UserId id, Long expectedVersion);
 }
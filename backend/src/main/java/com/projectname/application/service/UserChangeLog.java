@@ -0,0 +1,95 @@
+package com.projectname.application.service;
+
+import com.projectname.application.port.in.UserChangeFeed;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserChange;
+import com.projectname.domain.value.UserChangeBatch;
+import com.projectname.domain.value.UserChangeType;
+import com.projectname.domain.value.UserId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory ring buffer of the most recent user changes.
+ *
+ * <p>Changes made in a transaction are appended after it commits, so readers never see a change
+ * that was rolled back. The buffer keeps the last {@value #CAPACITY} changes whatever the number
+ * of readers: a reader only holds the sequence number it has read up to, and one that falls
+ * further behind than the buffer reaches is told to resync.</p>
+ *
+ * <p>Sequence numbers start at the startup time in microseconds, so a number handed out before a
+ * restart is older than anything in the buffer and leads to a resync rather than to changes
+ * being skipped silently.</p>
+ */
+@Service
+public class UserChangeLog implements UserChangeFeed {
+
+  static final int CAPACITY = 4096;
+  private static final int MASK = CAPACITY - 1;
+
+  private final UserChange[] ring = new UserChange[CAPACITY];
+  private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+  private final long firstSequence;
+  private long latestSequence;
+
+  public UserChangeLog() {
+    latestSequence = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    firstSequence = latestSequence + 1;
+  }
+
+  /**
+   * Records a change, after the current transaction commits if there is one.
+   *
+   * @param user the user after the change, or {@code null} for a deletion
+   */
+  public void record(UserChangeType type, UserId userId, User user) {
+    User snapshot = user == null ? null : user.toBuilder().build();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          append(type, userId, snapshot);
+        }
+      });
+    } else {
+      append(type, userId, snapshot);
+    }
+  }
+
+  private void append(UserChangeType type, UserId userId, User user) {
+    synchronized (this) {
+      latestSequence++;
+      ring[(int) (latestSequence & MASK)] = UserChange.of(latestSequence, type, userId, user);
+    }
+    listeners.forEach(Runnable::run);
+  }
+
+  @Override
+  public synchronized long latestSequence() {
+    return latestSequence;
+  }
+
+  @Override
+  public synchronized UserChangeBatch readAfter(long lastSequence, int maxChanges) {
+    long oldestRetained = Math.max(firstSequence, latestSequence - CAPACITY + 1);
+    if (lastSequence > latestSequence || lastSequence < oldestRetained - 1) {
+      return UserChangeBatch.resync(latestSequence);
+    }
+    int count = (int) Math.min(maxChanges, latestSequence - lastSequence);
+    List<UserChange> changes = new ArrayList<>(count);
+    for (long sequence = lastSequence + 1; sequence <= lastSequence + count; sequence++) {
+      changes.add(ring[(int) (sequence & MASK)]);
+    }
+    return UserChangeBatch.of(changes, lastSequence + count);
+  }
+
+  @Override
+  public void addListener(Runnable listener) {
+    listeners.add(listener);
+  }
+}
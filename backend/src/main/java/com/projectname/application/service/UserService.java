@@ -3,60 +3,284 @@ package com.projectname.application.service;
 import com.projectname.application.port.in.UserUseCase;
 import com.projectname.application.port.UserPort;
 import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.DuplicateUserException;
 import com.projectname.domain.exception.ResourceNotFoundException;
+import com.projectname.domain.exception.VersionConflictException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import com.projectname.domain.value.BatchItemStatus;
+import com.projectname.domain.value.UserBatchItem;
+import com.projectname.domain.value.UserChangeType;
 import com.projectname.domain.value.UserId;
+import com.projectname.domain.value.UserLookupResult;
+import com.projectname.domain.value.UserPage;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class UserService implements UserUseCase {
 
+  static final int MAX_PAGE_SIZE = 500;
+  static final int MAX_BATCH_SIZE = 1000;
+  static final int MAX_SEARCH_RESULTS = 100;
+  static final int MAX_LOOKUP_SIZE = 1000;
+
   private final UserPort userPort;
+  private final UserChangeLog userChangeLog;
 
+  /**
+   * Creates a user. A username or email that is already taken is not looked up beforehand: the
+   * unique constraint rejects the insert and the persistence adapter names the field, so a
+   * create costs a single statement and needs no separate handling for concurrent writers.
+   */
   @Override
   public User createUser(User user) {
     OffsetDateTime now = OffsetDateTime.now();
     user.setCreatedAt(now);
     user.setUpdatedAt(now);
     user.validate();
-    return userPort.save(user);
+    User saved;
+    try {
+      saved = userPort.save(user);
+    } catch (DataIntegrityViolationException e) {
+      throw duplicate(e);
+    }
+    userChangeLog.record(UserChangeType.CREATED, saved.getId(), saved);
+    return saved;
+  }
+
+  /**
+   * Creates a batch of users. Uniqueness is pre-checked against the database and within the
+   * batch with two IN queries, so the remaining items can be inserted in a single batched
+   * transaction. If a concurrent writer still causes a constraint violation, the items are
+   * retried one by one to attribute the conflict to the right item.
+   */
+  @Override
+  public List<UserBatchItem> createUsers(List<User> users) {
+    if (users.size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException("Batch size must not exceed " + MAX_BATCH_SIZE);
+    }
+    Set<String> usernames = new HashSet<>();
+    Set<String> emails = new HashSet<>();
+    for (User user : users) {
+      if (user.getUsername() != null) {
+        usernames.add(user.getUsername());
+      }
+      if (user.getEmail() != null) {
+        emails.add(user.getEmail());
+      }
+    }
+    Set<String> takenUsernames = new HashSet<>(userPort.findExistingUsernames(usernames));
+    Set<String> takenEmails = new HashSet<>(userPort.findExistingEmails(emails));
+
+    OffsetDateTime now = OffsetDateTime.now();
+    UserBatchItem[] results = new UserBatchItem[users.size()];
+    List<Integer> pendingIndexes = new ArrayList<>();
+    List<User> pending = new ArrayList<>();
+    for (int i = 0; i < users.size(); i++) {
+      User user = users.get(i);
+      if (user.getId() != null) {
+        results[i] = UserBatchItem.invalid(i, "Batch items must not carry an ID");
+        continue;
+      }
+      user.setCreatedAt(now);
+      user.setUpdatedAt(now);
+      try {
+        user.validate();
+      } catch (IllegalArgumentException e) {
+        results[i] = UserBatchItem.invalid(i, e.getMessage());
+        continue;
+      }
+      if (takenUsernames.contains(user.getUsername())) {
+        results[i] = UserBatchItem.conflict(i, "username", "Username already exists");
+        continue;
+      }
+      if (takenEmails.contains(user.getEmail())) {
+        results[i] = UserBatchItem.conflict(i, "email", "Email already exists");
+        continue;
+      }
+      // Later duplicates within the same batch conflict with this item.
+      takenUsernames.add(user.getUsername());
+      takenEmails.add(user.getEmail());
+      pendingIndexes.add(i);
+      pending.add(user);
+    }
+
+    savePending(pending, pendingIndexes, results);
+    for (UserBatchItem result : results) {
+      if (result.getStatus() == BatchItemStatus.CREATED) {
+        userChangeLog.record(UserChangeType.CREATED, result.getUser().getId(), result.getUser());
+      }
+    }
+    return Arrays.asList(results);
+  }
+
+  private void savePending(List<User> pending, List<Integer> indexes, UserBatchItem[] results) {
+    if (pending.isEmpty()) {
+      return;
+    }
+    try {
+      List<User> saved = userPort.saveAll(pending);
+      for (int k = 0; k < saved.size(); k++) {
+        results[indexes.get(k)] = UserBatchItem.created(indexes.get(k), saved.get(k));
+      }
+    } catch (DataIntegrityViolationException batchFailure) {
+      for (int k = 0; k < pending.size(); k++) {
+        int index = indexes.get(k);
+        try {
+          results[index] = UserBatchItem.created(index, userPort.save(pending.get(k)));
+        } catch (DataIntegrityViolationException e) {
+          DuplicateUserException duplicate = duplicate(e);
+          results[index] = UserBatchItem.conflict(index, duplicate.getField(), duplicate.getMessage());
+        }
+      }
+    }
   }
 
   @Override
+  @Transactional(readOnly = true)
   public User getUserById(UserId id) {
     return userPort
         .findById(id)
         .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
   }
 
+  /**
+   * Looks up many users with one port call. Duplicate IDs are answered once; IDs without a
+   * user are reported as missing instead of failing the lookup.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public UserLookupResult getUsersByIds(List<UserId> ids) {
+    if (ids.size() > MAX_LOOKUP_SIZE) {
+      throw new IllegalArgumentException("Lookup size must not exceed " + MAX_LOOKUP_SIZE);
+    }
+    Set<UserId> requested = new LinkedHashSet<>(ids);
+    Map<UserId, User> found = new HashMap<>();
+    for (User user : userPort.findAllById(requested)) {
+      found.put(user.getId(), user);
+    }
+    List<User> users = new ArrayList<>(found.size());
+    List<UserId> missingIds = new ArrayList<>();
+    for (UserId id : requested) {
+      User user = found.get(id);
+      if (user != null) {
+        users.add(user);
+      } else {
+        missingIds.add(id);
+      }
+    }
+    return UserLookupResult.of(users, missingIds);
+  }
+
   @Override
+  @Transactional(readOnly = true)
   public List<User> getAllUsers() {
     return userPort.findAll();
   }
 
   @Override
-  public User updateUser(UserId id, User userUpdates) {
-    User existingUser = getUserById(id);
-    if (userUpdates.getUsername() != null) {
-      existingUser.setUsername(userUpdates.getUsername());
+  @Transactional(readOnly = true)
+  public UserPage getUsers(UserId after, int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+    // Fetch one extra row to learn whether another page exists without a COUNT query.
+    List<User> users = userPort.findAllAfter(after, limit + 1);
+    if (users.size() <= limit) {
+      return UserPage.of(users, null);
+    }
+    List<User> page = users.subList(0, limit);
+    return UserPage.of(page, page.getLast().getId());
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportUsers(Consumer<User> sink) {
+    userPort.streamAll(sink);
+  }
+
+  /**
+   * Finds users by case-insensitive username or email prefix.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<User> searchUsers(String query, int limit) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search query cannot be empty");
     }
-    if (userUpdates.getEmail() != null) {
-      existingUser.setEmail(userUpdates.getEmail());
+    if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+      throw new IllegalArgumentException("Search limit must be between 1 and " + MAX_SEARCH_RESULTS);
     }
-    existingUser.setUpdatedAt(OffsetDateTime.now());
-    existingUser.validate();
-    return userPort.save(existingUser);
+    return userPort.searchByPrefix(query.strip().toLowerCase(Locale.ROOT), limit);
   }
 
+  /**
+   * Applies the non-null fields of {@code userUpdates} with a single conditional UPDATE. If
+   * {@code expectedVersion} is given, the update only happens while the user is still at that
+   * version. The user is only read when nothing was updated, to tell a missing user from a
+   * version conflict. A new username or email that is already taken is reported as a duplicate.
+   */
   @Override
-  public void deleteUser(UserId id) {
-    if (userPort.findById(id).isEmpty()) {
-      throw new ResourceNotFoundException("User not found with ID: " + id);
+  @Transactional
+  public User updateUser(UserId id, User userUpdates, Long expectedVersion) {
+    User changes = User.builder()
+        .username(userUpdates.getUsername())
+        .email(userUpdates.getEmail())
+        .updatedAt(OffsetDateTime.now())
+        .build();
+    changes.validateChanges();
+    User updated;
+    try {
+      updated = userPort.update(id, changes, expectedVersion)
+          .orElseThrow(() -> missingOrConflict(id, expectedVersion));
+    } catch (DataIntegrityViolationException e) {
+      throw duplicate(e);
+    }
+    userChangeLog.record(UserChangeType.UPDATED, id, updated);
+    return updated;
+  }
+
+  @Override
+  @Transactional
+  public void deleteUser(UserId id, Long expectedVersion) {
+    if (userPort.deleteById(id, expectedVersion) == 0) {
+      throw missingOrConflict(id, expectedVersion);
+    }
+    userChangeLog.record(UserChangeType.DELETED, id, null);
+  }
+
+  /**
+   * Translates a unique constraint violation. Persistence adapters that can tell which column
+   * collided attach a {@link DuplicateUserException} naming it as a cause.
+   */
+  private static DuplicateUserException duplicate(DataIntegrityViolationException e) {
+    for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+      if (cause instanceof DuplicateUserException named) {
+        return new DuplicateUserException(named.getField(), named.getMessage(), e);
+      }
+    }
+    return new DuplicateUserException(null, "Username or email already exists", e);
+  }
+
+  private RuntimeException missingOrConflict(UserId id, Long expectedVersion) {
+    if (expectedVersion != null && userPort.findById(id).isPresent()) {
+      return new VersionConflictException(
+          "User " + id.toLong() + " is no longer at version " + expectedVersion);
     }
-    userPort.deleteById(id);
+    return new ResourceNotFoundException("User not found with ID: " + id);
   }
 }
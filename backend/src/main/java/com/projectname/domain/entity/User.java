@@ -11,7 +11,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class User {
 
   private UserId id;
@@ -19,6 +19,7 @@ public class User {
   private String email;
   private OffsetDateTime createdAt;
   private OffsetDateTime updatedAt;
+  private Long version;
 
   public void validate() {
     if (username == null || username.isBlank()) {
@@ -31,4 +32,19 @@ public class User {
       throw new IllegalArgumentException("Email must be valid");
     }
   }
+
+  /**
+   * Validates only the fields that are set, for partial updates.
+   */
+  public void validateChanges() {
+    if (username != null && username.isBlank()) {
+      throw new IllegalArgumentException("Username cannot be empty");
+    }
+    if (email != null && email.isBlank()) {
+      throw new IllegalArgumentException("Email cannot be empty");
+    }
+    if (email != null && !email.contains("@")) {
+      throw new IllegalArgumentException("Email must be valid");
+    }
+  }
 }
@@ -0,0 +1,27 @@
+package com.projectname.domain.exception;
+
+/**
+ * Exception thrown when a user would take a username or email that already belongs to another user.
+ */
+public class DuplicateUserException extends RuntimeException {
+
+  private final String field;
+
+  public DuplicateUserException(String field, String message) {
+    super(message);
+    this.field = field;
+  }
+
+  public DuplicateUserException(String field, String message, Throwable cause) {
+    super(message, cause);
+    this.field = field;
+  }
+
+  /**
+   * Returns the unique field that collided ({@code username} or {@code email}), or {@code null}
+   * if the database only reported a collision without naming it.
+   */
+  public String getField() {
+    return field;
+  }
+}
@@ -2,14 +2,17 @@ package com.projectname.domain.exception;
 
 /**
  * Exception thrown when a requested resource is not found.
+ *
+ * <p>Not-found is an expected outcome rather than a fault, so the exception carries no stack
+ * trace; filling it in would cost more than the lookup that failed.</p>
  */
 public class ResourceNotFoundException extends RuntimeException {
 
   public ResourceNotFoundException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 
   public ResourceNotFoundException(String message, Throwable cause) {
-    super(message, cause);
+    super(message, cause, false, false);
   }
 }
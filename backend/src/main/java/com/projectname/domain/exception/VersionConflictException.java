@@ -0,0 +1,15 @@
+package com.projectname.domain.exception;
+
+/**
+ * Exception thrown when a resource was modified since the version the caller based a change on.
+ */
+public class VersionConflictException extends RuntimeException {
+
+  public VersionConflictException(String message) {
+    super(message);
+  }
+
+  public VersionConflictException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
@@ -0,0 +1,10 @@
+package com.projectname.domain.value;
+
+/**
+ * Outcome of a single item in a batch write.
+ */
+public enum BatchItemStatus {
+  CREATED,
+  CONFLICT,
+  INVALID
+}
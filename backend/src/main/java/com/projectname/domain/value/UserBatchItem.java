@@ -0,0 +1,87 @@
+package com.projectname.domain.value;
+
+import com.projectname.domain.entity.User;
+import java.util.Objects;
+
+/**
+ * Value object describing the outcome of one user in a batch create.
+ */
+public final class UserBatchItem {
+
+  private final int index;
+  private final BatchItemStatus status;
+  private final User user;
+  private final String field;
+  private final String message;
+
+  private UserBatchItem(
+      final int index,
+      final BatchItemStatus status,
+      final User user,
+      final String field,
+      final String message) {
+    this.index = index;
+    this.status = status;
+    this.user = user;
+    this.field = field;
+    this.message = message;
+  }
+
+  public static UserBatchItem created(final int index, final User user) {
+    return new UserBatchItem(index, BatchItemStatus.CREATED, user, null, null);
+  }
+
+  public static UserBatchItem conflict(final int index, final String field, final String message) {
+    return new UserBatchItem(index, BatchItemStatus.CONFLICT, null, field, message);
+  }
+
+  public static UserBatchItem invalid(final int index, final String message) {
+    return new UserBatchItem(index, BatchItemStatus.INVALID, null, null, message);
+  }
+
+  public int getIndex() {
+    return index;
+  }
+
+  public BatchItemStatus getStatus() {
+    return status;
+  }
+
+  public User getUser() {
+    return user;
+  }
+
+  public String getField() {
+    return field;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    final UserBatchItem that = (UserBatchItem) other;
+    return index == that.index
+        && status == that.status
+        && Objects.equals(user, that.user)
+        && Objects.equals(field, that.field)
+        && Objects.equals(message, that.message);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(index, status, user, field, message);
+  }
+
+  @Override
+  public String toString() {
+    return "UserBatchItem{" + "index=" + index + ", status=" + status + ", field=" + field + '}';
+  }
+}
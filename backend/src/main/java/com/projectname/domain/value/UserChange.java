@@ -0,0 +1,74 @@
+package com.projectname.domain.value;
+
+import com.projectname.domain.entity.User;
+import java.util.Objects;
+
+/**
+ * Value object representing one committed change of a user, numbered in the order it was recorded.
+ */
+public final class UserChange {
+
+  private final long sequence;
+  private final UserChangeType type;
+  private final UserId userId;
+  private final User user;
+
+  private UserChange(final long sequence, final UserChangeType type, final UserId userId, final User user) {
+    if (type == null || userId == null) {
+      throw new IllegalArgumentException("Change type and user ID cannot be null");
+    }
+    if (type != UserChangeType.DELETED && user == null) {
+      throw new IllegalArgumentException("A " + type + " change must carry the user");
+    }
+    this.sequence = sequence;
+    this.type = type;
+    this.userId = userId;
+    this.user = user;
+  }
+
+  public static UserChange of(final long sequence, final UserChangeType type, final UserId userId, final User user) {
+    return new UserChange(sequence, type, userId, user);
+  }
+
+  public long getSequence() {
+    return sequence;
+  }
+
+  public UserChangeType getType() {
+    return type;
+  }
+
+  public UserId getUserId() {
+    return userId;
+  }
+
+  /**
+   * Returns the user as it was after the change, or {@code null} for a deletion.
+   */
+  public User getUser() {
+    return user;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    final UserChange that = (UserChange) other;
+    return sequence == that.sequence && type == that.type && userId.equals(that.userId)
+        && Objects.equals(user, that.user);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(sequence);
+  }
+
+  @Override
+  public String toString() {
+    return "UserChange{" + "sequence=" + sequence + ", type=" + type + ", userId=" + userId + '}';
+  }
+}
@@ -0,0 +1,73 @@
+package com.projectname.domain.value;
+
+import java.util.List;
+
+/**
+ * Value object representing the changes read from a change feed after a given sequence number.
+ *
+ * <p>If the changes directly following that sequence number are no longer retained, the batch
+ * is empty and {@link #isResyncRequired()} is set: the reader has to reload its state and
+ * continue from {@link #getLastSequence()}.</p>
+ */
+public final class UserChangeBatch {
+
+  private final List<UserChange> changes;
+  private final long lastSequence;
+  private final boolean resyncRequired;
+
+  private UserChangeBatch(final List<UserChange> changes, final long lastSequence, final boolean resyncRequired) {
+    if (changes == null) {
+      throw new IllegalArgumentException("Changes of a batch cannot be null");
+    }
+    this.changes = List.copyOf(changes);
+    this.lastSequence = lastSequence;
+    this.resyncRequired = resyncRequired;
+  }
+
+  public static UserChangeBatch of(final List<UserChange> changes, final long lastSequence) {
+    return new UserChangeBatch(changes, lastSequence, false);
+  }
+
+  public static UserChangeBatch resync(final long lastSequence) {
+    return new UserChangeBatch(List.of(), lastSequence, true);
+  }
+
+  public List<UserChange> getChanges() {
+    return changes;
+  }
+
+  /**
+   * Returns the sequence number to read after next time.
+   */
+  public long getLastSequence() {
+    return lastSequence;
+  }
+
+  public boolean isResyncRequired() {
+    return resyncRequired;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    final UserChangeBatch that = (UserChangeBatch) other;
+    return lastSequence == that.lastSequence && resyncRequired == that.resyncRequired
+        && changes.equals(that.changes);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * changes.hashCode() + Long.hashCode(lastSequence);
+  }
+
+  @Override
+  public String toString() {
+    return "UserChangeBatch{" + "size=" + changes.size() + ", lastSequence=" + lastSequence
+        + ", resyncRequired=" + resyncRequired + '}';
+  }
+}
@@ -0,0 +1,10 @@
+package com.projectname.domain.value;
+
+/**
+ * Kind of change recorded for a user.
+ */
+public enum UserChangeType {
+  CREATED,
+  UPDATED,
+  DELETED
+}
@@ -1,31 +1,52 @@
 package com.projectname.domain.value;
 
 import java.io.Serializable;
-import java.util.Objects;
 
 /**
  * Value object representing a user identifier.
+ *
+ * <p>Holds a primitive {@code long}, so comparing and hashing ids never boxes. Instances for
+ * small ids are shared, which makes {@link #of(long)} allocation-free for them.</p>
  */
 public final class UserId implements Serializable {
 
-  private final Long value;
+  private static final int CACHE_SIZE = 1024;
+  private static final UserId[] CACHE = new UserId[CACHE_SIZE];
 
-  private UserId(final Long value) {
-    if (value == null || value <= 0) {
+  static {
+    for (int i = 1; i < CACHE_SIZE; i++) {
+      CACHE[i] = new UserId(i);
+    }
+  }
+
+  private final long value;
+
+  private UserId(final long value) {
+    if (value <= 0) {
       throw new IllegalArgumentException("User ID must be a positive number");
     }
     this.value = value;
   }
 
-  public static UserId of(final Long value) {
+  public static UserId of(final long value) {
+    if (value > 0 && value < CACHE_SIZE) {
+      return CACHE[(int) value];
+    }
     return new UserId(value);
   }
 
-  public Long getValue() {
+  public static UserId of(final Long value) {
+    if (value == null) {
+      throw new IllegalArgumentException("User ID must be a positive number");
+    }
+    return of(value.longValue());
+  }
+
+  public long getValue() {
     return value;
   }
 
-  public Long toLong() {
+  public long toLong() {
     return value;
   }
 
@@ -37,13 +58,12 @@ public final class UserId implements Serializable {
     if (other == null || getClass() != other.getClass()) {
       return false;
     }
-    final UserId userId = (UserId) other;
-    return Objects.equals(value, userId.value);
+    return value == ((UserId) other).value;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(value);
+    return Long.hashCode(value);
   }
 
   @Override
@@ -51,4 +71,3 @@ public final class UserId implements Serializable {
     return "UserId{" + "value=" + value + '}';
   }
 }
-
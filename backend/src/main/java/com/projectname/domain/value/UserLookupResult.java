@@ -0,0 +1,56 @@
+package com.projectname.domain.value;
+
+import com.projectname.domain.entity.User;
+import java.util.List;
+
+/**
+ * Value object representing the outcome of looking up many users by ID: the users that exist,
+ * in the order their IDs were requested, and the requested IDs that do not.
+ */
+public final class UserLookupResult {
+
+  private final List<User> users;
+  private final List<UserId> missingIds;
+
+  private UserLookupResult(final List<User> users, final List<UserId> missingIds) {
+    if (users == null || missingIds == null) {
+      throw new IllegalArgumentException("Users and missing IDs of a lookup cannot be null");
+    }
+    this.users = List.copyOf(users);
+    this.missingIds = List.copyOf(missingIds);
+  }
+
+  public static UserLookupResult of(final List<User> users, final List<UserId> missingIds) {
+    return new UserLookupResult(users, missingIds);
+  }
+
+  public List<User> getUsers() {
+    return users;
+  }
+
+  public List<UserId> getMissingIds() {
+    return missingIds;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    final UserLookupResult that = (UserLookupResult) other;
+    return users.equals(that.users) && missingIds.equals(that.missingIds);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * users.hashCode() + missingIds.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "UserLookupResult{" + "found=" + users.size() + ", missingIds=" + missingIds + '}';
+  }
+}
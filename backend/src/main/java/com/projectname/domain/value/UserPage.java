@@ -0,0 +1,63 @@
+package com.projectname.domain.value;
+
+import com.projectname.domain.entity.User;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Value object representing one keyset page of users ordered by id.
+ */
+public final class UserPage {
+
+  private final List<User> users;
+  private final UserId nextCursor;
+
+  private UserPage(final List<User> users, final UserId nextCursor) {
+    if (users == null) {
+      throw new IllegalArgumentException("Users of a page cannot be null");
+    }
+    this.users = List.copyOf(users);
+    this.nextCursor = nextCursor;
+  }
+
+  public static UserPage of(final List<User> users, final UserId nextCursor) {
+    return new UserPage(users, nextCursor);
+  }
+
+  public List<User> getUsers() {
+    return users;
+  }
+
+  /**
+   * Returns the id to pass as {@code after} for the next page, or {@code null} on the last page.
+   */
+  public UserId getNextCursor() {
+    return nextCursor;
+  }
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other == null || getClass() != other.getClass()) {
+      return false;
+    }
+    final UserPage userPage = (UserPage) other;
+    return users.equals(userPage.users) && Objects.equals(nextCursor, userPage.nextCursor);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * users.hashCode() + Objects.hashCode(nextCursor);
+  }
+
+  @Override
+  public String toString() {
+    return "UserPage{" + "size=" + users.size() + ", nextCursor=" + nextCursor + '}';
+  }
+}
@@ -1,5 +1,5 @@
 -- Sample test data
-INSERT INTO users (username, email) VALUES
-('john_doe', 'john@example.com'),
-('jane_smith', 'jane@example.com'),
-('mike_johnson', 'mike@example.com');
+INSERT INTO users (id, username, email) VALUES
+(NEXT VALUE FOR users_seq, 'john_doe', 'john@example.com'),
+(NEXT VALUE FOR users_seq, 'jane_smith', 'jane@example.com'),
+(NEXT VALUE FOR users_seq, 'mike_johnson', 'mike@example.com');
@@ -1,8 +1,19 @@
 -- Users table
+CREATE SEQUENCE users_seq START WITH 1 INCREMENT BY 50;
+
 CREATE TABLE users (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    username VARCHAR(255) NOT NULL UNIQUE,
-    email VARCHAR(255) NOT NULL UNIQUE,
+    id BIGINT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT DEFAULT 0 NOT NULL,
+    username_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(username)),
+    email_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(email)),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
 );
+
+-- Case-insensitive prefix search (GET /api/users/search)
+CREATE INDEX idx_users_username_lower ON users (username_lower);
+CREATE INDEX idx_users_email_lower ON users (email_lower);
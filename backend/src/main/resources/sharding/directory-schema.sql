@@ -0,0 +1,7 @@
+-- Global uniqueness of usernames and emails across all shards, and the username lookup.
+CREATE TABLE IF NOT EXISTS user_keys (
+    kind VARCHAR(8) NOT NULL,
+    key_value VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (kind, key_value)
+);
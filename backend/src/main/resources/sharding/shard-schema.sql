@@ -0,0 +1,17 @@
+-- Users table of one shard; the id sequence is created by JdbcUserShard, as its start and
+-- increment depend on the shard's position.
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE,
+    updated_at TIMESTAMP WITH TIME ZONE,
+    version BIGINT DEFAULT 0 NOT NULL,
+    username_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(username)),
+    email_lower VARCHAR(255) GENERATED ALWAYS AS (LOWER(email)),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_username_lower ON users (username_lower);
+CREATE INDEX IF NOT EXISTS idx_users_email_lower ON users (email_lower);
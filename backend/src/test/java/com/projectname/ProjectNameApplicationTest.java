@@ -0,0 +1,50 @@
+package com.projectname;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.bootstrap.DefaultBootstrapContext;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Tests how ProjectNameApplication decides on bulk import mode.
+ */
+class ProjectNameApplicationTest {
+
+  @Test
+  void shouldStartWithoutWebServerWhenImportFileIsConfigured() {
+    // Given
+    final var application = new SpringApplication(ProjectNameApplication.class);
+    final var environment = new StandardEnvironment();
+    environment.getPropertySources().addFirst(new MapPropertySource("config",
+        Map.of(ProjectNameApplication.IMPORT_FILE_PROPERTY, "users.csv")));
+
+    // When
+    new ProjectNameApplication.ImportModeListener().onApplicationEvent(event(application, environment));
+
+    // Then
+    assertEquals(WebApplicationType.NONE, application.getWebApplicationType());
+  }
+
+  @Test
+  void shouldKeepWebServerWithoutImportFile() {
+    // Given
+    final var application = new SpringApplication(ProjectNameApplication.class);
+
+    // When
+    new ProjectNameApplication.ImportModeListener().onApplicationEvent(event(application, new StandardEnvironment()));
+
+    // Then
+    assertEquals(WebApplicationType.SERVLET, application.getWebApplicationType());
+  }
+
+  private static ApplicationEnvironmentPreparedEvent event(
+      final SpringApplication application, final StandardEnvironment environment) {
+    return new ApplicationEnvironmentPreparedEvent(new DefaultBootstrapContext(), application, new String[0], environment);
+  }
+}
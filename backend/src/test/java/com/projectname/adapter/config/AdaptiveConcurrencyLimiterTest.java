@@ -0,0 +1,74 @@
+package com.projectname.adapter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofSeconds(1).toNanos();
+
+  private SimpleMeterRegistry meterRegistry;
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    limiter = new AdaptiveConcurrencyLimiter("users-read", 2, 1, 10, Duration.ofMillis(100), 0.5, meterRegistry);
+  }
+
+  @Test
+  void shouldRejectRequestsBeyondLimit() {
+    // When
+    final var first = limiter.tryAcquire();
+    final var second = limiter.tryAcquire();
+    final var third = limiter.tryAcquire();
+
+    // Then
+    assertTrue(first);
+    assertTrue(second);
+    assertFalse(third);
+    assertEquals(1, meterRegistry.get("app.concurrency.rejected").tag("group", "users-read").counter().count());
+  }
+
+  @Test
+  void shouldLowerLimitWhenRequestsGetSlow() {
+    // Given
+    limiter.tryAcquire();
+    limiter.tryAcquire();
+
+    // When
+    limiter.release(SLOW, false);
+    limiter.release(SLOW, false);
+
+    // Then
+    assertEquals(1, limit());
+  }
+
+  @Test
+  void shouldRaiseLimitWhileFastRequestsUseIt() {
+    // When
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire();
+      limiter.tryAcquire();
+      limiter.release(FAST, false);
+      limiter.release(FAST, false);
+    }
+
+    // Then
+    assertTrue(limit() > 2);
+  }
+
+  private double limit() {
+    return meterRegistry.get("app.concurrency.limit").tag("group", "users-read").gauge().value();
+  }
+}
@@ -0,0 +1,125 @@
+package com.projectname.adapter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+/**
+ * Tests ConcurrencyLimitInterceptor as registered by ConcurrencyLimitConfig, with a limit of one
+ * request on two test routes.
+ */
+class ConcurrencyLimitInterceptorTest {
+
+  private AnnotationConfigWebApplicationContext context;
+  private MockMvc mockMvc;
+  private LimitedController controller;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+        "app.concurrency-limit.enabled", "true",
+        "app.concurrency-limit.retry-after", "1500ms",
+        "app.concurrency-limit.groups.limited.routes", "GET /api/limited/slow, GET /api/limited/fail",
+        "app.concurrency-limit.groups.limited.initial-limit", "1",
+        "app.concurrency-limit.groups.limited.max-limit", "1")));
+    context.register(WebMvc.class, ConcurrencyLimitConfig.class, GlobalExceptionHandler.class, LimitedController.class);
+    context.refresh();
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+    controller = context.getBean(LimitedController.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    controller.release.countDown();
+    context.close();
+  }
+
+  @Test
+  void shouldAnswer503WithRetryAfterPastTheLimit() throws Exception {
+    // Given
+    final var first = CompletableFuture.runAsync(() -> {
+      try {
+        mockMvc.perform(get("/api/limited/slow")).andExpect(status().isOk());
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    assertTrue(controller.entered.await(5, TimeUnit.SECONDS));
+
+    // When / Then
+    mockMvc.perform(get("/api/limited/fail"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+    controller.release.countDown();
+    first.get(5, TimeUnit.SECONDS);
+    assertEquals(0.0, inFlight());
+  }
+
+  @Test
+  void shouldReleasePermitWhenHandlerThrows() throws Exception {
+    // Given
+    mockMvc.perform(get("/api/limited/fail")).andExpect(status().isInternalServerError());
+
+    // When / Then
+    assertEquals(0.0, inFlight());
+    mockMvc.perform(get("/api/limited/fail")).andExpect(status().isInternalServerError());
+  }
+
+  private double inFlight() {
+    return context.getBean(MeterRegistry.class).get("app.concurrency.in-flight").tag("group", "limited").gauge().value();
+  }
+
+  @Configuration
+  @EnableWebMvc
+  static class WebMvc {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+      return new SimpleMeterRegistry();
+    }
+  }
+
+  @RestController
+  static class LimitedController {
+
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @GetMapping("/api/limited/slow")
+    String slow() throws InterruptedException {
+      entered.countDown();
+      release.await(5, TimeUnit.SECONDS);
+      return "done";
+    }
+
+    @GetMapping("/api/limited/fail")
+    String fail() {
+      throw new IllegalStateException("Handler failed");
+    }
+  }
+}
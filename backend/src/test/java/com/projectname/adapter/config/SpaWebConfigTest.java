@@ -0,0 +1,103 @@
+package com.projectname.adapter.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+/**
+ * Tests for SpaWebConfig, against the fixture frontend in src/test/resources/static/ui.
+ */
+class SpaWebConfigTest {
+
+  private AnnotationConfigWebApplicationContext context;
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigWebApplicationContext();
+    context.setServletContext(new MockServletContext());
+    context.register(WebMvc.class, SpaWebConfig.class);
+    context.refresh();
+    mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+  }
+
+  @Test
+  void shouldPreferBrotliOverGzipWhenBothAreAccepted() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/main-ABC123.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "br"))
+        .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+  }
+
+  @Test
+  void shouldServeGzipOrIdentityAccordingToAcceptEncoding() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/main-ABC123.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+    mockMvc.perform(get("/ui/main-ABC123.js"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andExpect(content().string("console.log('main');\n"));
+  }
+
+  @Test
+  void shouldCacheFingerprintedBundlesAsImmutable() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/main-ABC123.js"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+  }
+
+  @Test
+  void shouldRevalidateIndex() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/index.html").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+  }
+
+  @Test
+  void shouldAnswerClientRoutesWithIndex() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/users/42"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+        .andExpect(content().string(containsString("<app-root>")));
+    mockMvc.perform(get("/ui/users/42").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+  }
+
+  @Test
+  void shouldNotFallBackToIndexForMissingFiles() throws Exception {
+    // When / Then
+    mockMvc.perform(get("/ui/missing-file.png"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Configuration
+  @EnableWebMvc
+  static class WebMvc {
+  }
+}
@@ -0,0 +1,65 @@
+package com.projectname.adapter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.in.UserUseCase;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.ResourceNotFoundException;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for TimedProxy.
+ */
+@ExtendWith(MockitoExtension.class)
+class TimedProxyTest {
+
+  @Mock
+  private UserUseCase userUseCase;
+
+  private SimpleMeterRegistry meterRegistry;
+  private UserUseCase timed;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    timed = TimedProxy.wrap(UserUseCase.class, userUseCase, "app.user.usecase", "test", meterRegistry);
+  }
+
+  @Test
+  void shouldTagSuccessfulCallsWithOperationAndOutcome() {
+    // Given
+    when(userUseCase.getUserById(UserId.of(1L))).thenReturn(User.builder().id(UserId.of(1L)).build());
+
+    // When
+    timed.getUserById(UserId.of(1L));
+
+    // Then
+    assertEquals(1, meterRegistry.get("app.user.usecase")
+        .tags("operation", "getUserById", "outcome", "ok")
+        .timer()
+        .count());
+  }
+
+  @Test
+  void shouldRethrowAndTagMappedExceptions() {
+    // Given
+    when(userUseCase.getUserById(UserId.of(9L))).thenThrow(new ResourceNotFoundException("missing"));
+
+    // When
+    assertThrows(ResourceNotFoundException.class, () -> timed.getUserById(UserId.of(9L)));
+
+    // Then
+    assertEquals(1, meterRegistry.get("app.user.usecase")
+        .tags("operation", "getUserById", "outcome", "not_found")
+        .timer()
+        .count());
+  }
+}
@@ -0,0 +1,61 @@
+package com.projectname.adapter.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tests binding and validation of UserImportProperties.
+ */
+class UserImportPropertiesTest {
+
+  private final ApplicationContextRunner contextRunner =
+      new ApplicationContextRunner().withUserConfiguration(Properties.class);
+
+  @Test
+  void shouldBindDefaults() {
+    // When / Then
+    contextRunner.run(context -> {
+      assertNull(context.getStartupFailure());
+      final var properties = context.getBean(UserImportProperties.class);
+      assertEquals(1000, properties.batchSize());
+      assertEquals(0, properties.parallelism());
+    });
+  }
+
+  @Test
+  void shouldRejectBatchSizeOutsideCreateUsersLimit() {
+    // When / Then
+    contextRunner.withPropertyValues("app.user-import.batch-size=0")
+        .run(context -> assertTrue(failedValidation(context.getStartupFailure())));
+    contextRunner.withPropertyValues("app.user-import.batch-size=1001")
+        .run(context -> assertTrue(failedValidation(context.getStartupFailure())));
+  }
+
+  @Test
+  void shouldRejectNegativeParallelism() {
+    // When / Then
+    contextRunner.withPropertyValues("app.user-import.parallelism=-1")
+        .run(context -> assertTrue(failedValidation(context.getStartupFailure())));
+  }
+
+  private static boolean failedValidation(final Throwable failure) {
+    for (var cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof BindValidationException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Configuration
+  @EnableConfigurationProperties(UserImportProperties.class)
+  static class Properties {
+  }
+}
@@ -0,0 +1,125 @@
+package com.projectname.adapter.inbound.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for LineReader.
+ */
+class LineReaderTest {
+
+  private static final int NO_LIMIT = 4 * LineReader.BUFFER_SIZE;
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void shouldStripCrLfTerminators() throws IOException {
+    // Given
+    final var file = write("johndoe\r\njanedoe\r\n");
+
+    // When
+    final var lines = readAll(file, NO_LIMIT);
+
+    // Then
+    assertEquals(List.of("johndoe", "janedoe"), lines);
+  }
+
+  @Test
+  void shouldSkipByteOrderMarkOfFirstLine() throws IOException {
+    // Given
+    final var file = write("\uFEFFusername,email\njohndoe,john@example.com\n");
+
+    // When
+    final var lines = readAll(file, NO_LIMIT);
+
+    // Then
+    assertEquals(List.of("username,email", "johndoe,john@example.com"), lines);
+  }
+
+  @Test
+  void shouldReturnLastLineWithoutFinalNewline() throws IOException {
+    // Given
+    final var file = write("johndoe\njanedoe");
+
+    // When
+    final var lines = readAll(file, NO_LIMIT);
+
+    // Then
+    assertEquals(List.of("johndoe", "janedoe"), lines);
+  }
+
+  @Test
+  void shouldReturnNoLinesForEmptyFile() throws IOException {
+    // Given
+    final var file = write("");
+
+    // When
+    final var lines = readAll(file, NO_LIMIT);
+
+    // Then
+    assertTrue(lines.isEmpty());
+  }
+
+  @Test
+  void shouldJoinLinesSpanningTheBuffer() throws IOException {
+    // Given: a CR as the last byte of the first buffer, and a two-byte character across the second.
+    final var first = "a".repeat(LineReader.BUFFER_SIZE - 1);
+    final var second = "b".repeat(LineReader.BUFFER_SIZE - 2) + "é";
+    final var file = write(first + "\r\n" + second + "\nc");
+
+    // When
+    final var lines = readAll(file, NO_LIMIT);
+
+    // Then
+    assertEquals(List.of(first, second, "c"), lines);
+  }
+
+  @Test
+  void shouldCutOverlongLineAndContinueWithTheNext() throws IOException {
+    // Given
+    final var file = write("x".repeat(LineReader.BUFFER_SIZE + 10) + "\nnext\n");
+
+    try (var reader = new LineReader(file, 8)) {
+      // When
+      final var cut = reader.readLine();
+      final var cutTruncated = reader.truncated();
+      final var next = reader.readLine();
+
+      // Then
+      assertEquals("xxxxxxxx", cut);
+      assertTrue(cutTruncated);
+      assertEquals("next", next);
+      assertFalse(reader.truncated());
+      assertEquals(2, reader.lineNumber());
+      assertNull(reader.readLine());
+      assertEquals(reader.size(), reader.position());
+    }
+  }
+
+  private Path write(final String content) throws IOException {
+    return Files.writeString(directory.resolve("lines.txt"), content, StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readAll(final Path file, final int maxLineLength) throws IOException {
+    final var lines = new ArrayList<String>();
+    try (var reader = new LineReader(file, maxLineLength)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,130 @@
+package com.projectname.adapter.inbound.cli;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.in.UserUseCase;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserBatchItem;
+import com.projectname.domain.value.UserId;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Unit tests for UserImportRunner.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserImportRunnerTest {
+
+  @TempDir
+  Path directory;
+
+  @Mock
+  private UserUseCase userUseCase;
+
+  private final Set<String> stored = new HashSet<>();
+
+  @BeforeEach
+  void setUp() {
+    when(userUseCase.createUsers(anyList())).thenAnswer(invocation -> {
+      final List<User> users = invocation.getArgument(0);
+      final var results = new ArrayList<UserBatchItem>();
+      for (var i = 0; i < users.size(); i++) {
+        final var user = users.get(i);
+        if (stored.add(user.getUsername())) {
+          user.setId(UserId.of(stored.size()));
+          results.add(UserBatchItem.created(i, user));
+        } else {
+          results.add(UserBatchItem.conflict(i, "username", "Username already exists"));
+        }
+      }
+      return results;
+    });
+  }
+
+  @Test
+  void shouldImportCsvAndReportRejectedLines() throws IOException {
+    // Given
+    final var file = Files.writeString(directory.resolve("users.csv"), """
+        id,email,username
+        7,john@example.com,johndoe
+        8,"jane@example.com","jane ""jd"" doe"
+        9,not-an-email,broken
+        10,other@example.com,johndoe
+        """);
+
+    // When
+    final var summary = runner(file).importUsers();
+
+    // Then
+    assertEquals(4, summary.records());
+    assertEquals(2, summary.created());
+    assertEquals(2, summary.rejected());
+    assertTrue(stored.contains("jane \"jd\" doe"));
+    final var rejects = Files.readAllLines(directory.resolve("rejects.ndjson"));
+    assertEquals(2, rejects.size());
+    assertTrue(rejects.get(0).contains("\"line\":4") && rejects.get(0).contains("Email must be valid"));
+    assertTrue(rejects.get(1).contains("\"line\":5") && rejects.get(1).contains("Duplicate username in file"));
+  }
+
+  @Test
+  void shouldSkipExistingUsersWhenTheSameFileIsImportedAgain() throws IOException {
+    // Given
+    final var lines = new StringBuilder();
+    for (var i = 0; i < 25; i++) {
+      lines.append("{\"username\":\"user").append(i).append("\",\"email\":\"user").append(i)
+          .append("@example.com\"}\r\n");
+    }
+    final var file = Files.writeString(directory.resolve("users.ndjson"), lines);
+    runner(file).importUsers();
+
+    // When
+    final var summary = runner(file).importUsers();
+
+    // Then
+    assertEquals(25, summary.records());
+    assertEquals(0, summary.created());
+    assertEquals(25, summary.skipped());
+    assertEquals(25, stored.size());
+  }
+
+  @Test
+  void shouldRejectOverlongLineAndImportTheRest() throws IOException {
+    // Given
+    final var overlong = "{\"username\":\"" + "x".repeat(UserImportRunner.MAX_LINE_LENGTH) + "\"}";
+    final var file = Files.writeString(directory.resolve("users.ndjson"),
+        "{\"username\":\"johndoe\",\"email\":\"john@example.com\"}\n"
+            + overlong + "\n"
+            + "{\"username\":\"janedoe\",\"email\":\"jane@example.com\"}\n");
+
+    // When
+    final var summary = runner(file).importUsers();
+
+    // Then
+    assertEquals(3, summary.records());
+    assertEquals(2, summary.created());
+    assertEquals(1, summary.rejected());
+    final var rejects = Files.readAllLines(directory.resolve("rejects.ndjson"));
+    assertTrue(rejects.get(0).contains("\"line\":2") && rejects.get(0).contains("longer than"));
+  }
+
+  private UserImportRunner runner(final Path file) {
+    return new UserImportRunner(userUseCase, JsonMapper.builder().build(), file, null,
+        directory.resolve("rejects.ndjson"), 10, 2, Duration.ofSeconds(10));
+  }
+}
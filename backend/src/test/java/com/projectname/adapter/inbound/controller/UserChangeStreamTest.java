@@ -0,0 +1,188 @@
+package com.projectname.adapter.inbound.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.mapper.UserMapper;
+import com.projectname.application.service.UserChangeLog;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserChangeType;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+/**
+ * Tests the Server-Sent Events stream of UserChangeController over UserChangeStream and a real UserChangeLog.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserChangeStreamTest {
+
+  private static final Duration AWAIT = Duration.ofSeconds(5);
+
+  @Mock
+  private UserMapper userMapper;
+
+  private final UserChangeLog userChangeLog = new UserChangeLog();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  void setUp() {
+    lenient().when(userMapper.toDto(any(User.class)))
+        .thenAnswer(invocation -> UserDto.builder().id(invocation.<User>getArgument(0).getId().toLong()).build());
+    final var stream = new UserChangeStream(userChangeLog, userMapper, meterRegistry);
+    mockMvc = MockMvcBuilders.standaloneSetup(new UserChangeController(stream))
+        .setMessageConverters(new JacksonJsonHttpMessageConverter())
+        .build();
+  }
+
+  @Test
+  void shouldResumeAfterLastEventId() throws Exception {
+    // Given
+    final long start = userChangeLog.latestSequence();
+    userChangeLog.record(UserChangeType.CREATED, UserId.of(1L), user(1L));
+    userChangeLog.record(UserChangeType.CREATED, UserId.of(2L), user(2L));
+    userChangeLog.record(UserChangeType.DELETED, UserId.of(1L), null);
+
+    // When
+    final var result = subscribe(start + 1);
+
+    // Then
+    // An event is written in parts, so wait for the end of the last one.
+    await(() -> content(result).contains("id:" + (start + 3) + "\nevent:deleted\ndata:{\"id\":1}\n\n"));
+    final var events = content(result);
+    assertFalse(events.contains("id:" + (start + 1) + "\n"), events);
+    assertTrue(events.contains("id:" + (start + 2) + "\nevent:created\ndata:{\"id\":2"), events);
+  }
+
+  @Test
+  void shouldSendLaterChangesToOpenSubscription() throws Exception {
+    // Given
+    final var result = subscribe(null);
+
+    // When
+    userChangeLog.record(UserChangeType.UPDATED, UserId.of(3L), user(3L));
+
+    // Then
+    await(() -> content(result).contains("event:updated\ndata:{\"id\":3"));
+  }
+
+  @Test
+  void shouldSendResyncWhenLastEventIdIsNoLongerRetained() throws Exception {
+    // Given
+    final long start = userChangeLog.latestSequence();
+    // Until the change after start has been overwritten.
+    while (!userChangeLog.readAfter(start, 1).isResyncRequired()) {
+      userChangeLog.record(UserChangeType.UPDATED, UserId.of(1L), user(1L));
+    }
+
+    // When
+    final var result = subscribe(start);
+
+    // Then
+    await(() -> content(result).contains("event:resync\ndata:{}\n\n"));
+    assertTrue(content(result).startsWith("id:" + userChangeLog.latestSequence() + "\nevent:resync\n"),
+        content(result));
+    assertEquals(1.0, meterRegistry.get("app.user.changes.resyncs").counter().count());
+  }
+
+  @Test
+  void shouldRemoveSubscriberWhenStreamCompletes() throws Exception {
+    // Given
+    final var result = subscribe(null);
+
+    // When
+    asyncContext(result).complete();
+
+    // Then
+    assertEquals(0.0, subscribers());
+  }
+
+  @Test
+  void shouldRemoveSubscriberWhenStreamTimesOut() throws Exception {
+    // Given
+    final var result = subscribe(null);
+
+    // When
+    for (final AsyncListener listener : asyncContext(result).getListeners()) {
+      listener.onTimeout(new AsyncEvent(asyncContext(result)));
+    }
+
+    // Then
+    assertEquals(0.0, subscribers());
+  }
+
+  @Test
+  void shouldRemoveSubscriberWhenStreamFails() throws Exception {
+    // Given
+    final var result = subscribe(null);
+
+    // When
+    for (final AsyncListener listener : asyncContext(result).getListeners()) {
+      listener.onError(new AsyncEvent(asyncContext(result), new IOException("Broken pipe")));
+    }
+
+    // Then
+    assertEquals(0.0, subscribers());
+  }
+
+  private MvcResult subscribe(final Long lastEventId) throws Exception {
+    final var get = get("/api/users/changes");
+    if (lastEventId != null) {
+      get.header("Last-Event-ID", lastEventId);
+    }
+    final var result = mockMvc.perform(get).andExpect(request().asyncStarted()).andReturn();
+    assertEquals(1.0, subscribers());
+    return result;
+  }
+
+  private static String content(final MvcResult result) {
+    try {
+      return result.getResponse().getContentAsString();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static MockAsyncContext asyncContext(final MvcResult result) {
+    return (MockAsyncContext) result.getRequest().getAsyncContext();
+  }
+
+  private double subscribers() {
+    return meterRegistry.get("app.user.changes.subscribers").gauge().value();
+  }
+
+  private static void await(final BooleanSupplier condition) throws InterruptedException {
+    final long deadline = System.nanoTime() + AWAIT.toNanos();
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        throw new AssertionError("Condition not met within " + AWAIT);
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private static User user(final long id) {
+    return User.builder().id(UserId.of(id)).username("user" + id).email("user" + id + "@example.com").build();
+  }
+}
@@ -0,0 +1,134 @@
+package com.projectname.adapter.inbound.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.projectname.adapter.config.CborConfig;
+import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.mapper.UserMapper;
+import com.projectname.application.port.in.UserUseCase;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests content negotiation of UserController between JSON and the CBOR converter of CborConfig.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserControllerCborTest {
+
+  private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+  private static final OffsetDateTime CREATED_AT =
+      OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 678_000_000, ZoneOffset.UTC);
+
+  @Mock
+  private UserUseCase userUseCase;
+
+  @Mock
+  private UserMapper userMapper;
+
+  private MockMvc mockMvc;
+  private User user;
+  private UserDto userDto;
+
+  @BeforeEach
+  void setUp() {
+    final var controller = new UserController(userUseCase, userMapper, JsonMapper.builder().build());
+    mockMvc = MockMvcBuilders.standaloneSetup(controller)
+        .setMessageConverters(new JacksonJsonHttpMessageConverter(),
+            new JacksonCborHttpMessageConverter(CborConfig.cborMapper()))
+        .build();
+    user = User.builder()
+        .id(UserId.of(1L))
+        .username("johndoe")
+        .email("john@example.com")
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT)
+        .build();
+    userDto = UserDto.builder()
+        .id(1L)
+        .username("johndoe")
+        .email("john@example.com")
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT)
+        .build();
+  }
+
+  @Test
+  void shouldAnswerWithCborWhenAccepted() throws Exception {
+    // Given
+    when(userUseCase.getUserById(UserId.of(1L))).thenReturn(user);
+    when(userMapper.toDto(user)).thenReturn(userDto);
+
+    // When
+    final var response = mockMvc.perform(get("/api/users/1").accept(CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // Then
+    final var body = CborConfig.cborMapper().readTree(response);
+    assertEquals("johndoe", body.get("username").asString());
+    assertTrue(body.get("createdAt").isIntegralNumber());
+    assertEquals(CREATED_AT.toInstant().toEpochMilli(), body.get("createdAt").asLong());
+  }
+
+  @Test
+  void shouldReadCborRequestBodyWithEpochMillisTimestamps() throws Exception {
+    // Given
+    final var request = CborConfig.cborMapper().writeValueAsBytes(UserDto.builder()
+        .username("johndoe")
+        .email("john@example.com")
+        .createdAt(CREATED_AT)
+        .build());
+    final var captor = ArgumentCaptor.forClass(UserDto.class);
+    when(userMapper.toDomain(captor.capture())).thenReturn(user);
+    when(userUseCase.createUser(any(User.class))).thenReturn(user);
+    when(userMapper.toDto(user)).thenReturn(userDto);
+
+    // When
+    final var response = mockMvc.perform(post("/api/users").contentType(CBOR).accept(CBOR).content(request))
+        .andExpect(status().isCreated())
+        .andExpect(content().contentTypeCompatibleWith(CBOR))
+        .andReturn().getResponse().getContentAsByteArray();
+
+    // Then
+    assertTrue(CREATED_AT.isEqual(captor.getValue().getCreatedAt()));
+    final var created = CborConfig.cborMapper().readValue(response, UserDto.class);
+    assertTrue(CREATED_AT.isEqual(created.getCreatedAt()));
+  }
+
+  @Test
+  void shouldKeepJsonAsDefault() throws Exception {
+    // Given
+    when(userUseCase.getUserById(UserId.of(1L))).thenReturn(user);
+    when(userMapper.toDto(user)).thenReturn(userDto);
+
+    // When / Then
+    mockMvc.perform(get("/api/users/1").header(HttpHeaders.ACCEPT, "*/*"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.username").value("johndoe"));
+  }
+}
@@ -1,18 +1,32 @@
 package com.projectname.adapter.inbound.controller;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.projectname.adapter.inbound.controller.dto.UserBatchItemResultDto;
 import com.projectname.adapter.inbound.controller.dto.UserDto;
+import com.projectname.adapter.inbound.controller.dto.UserLookupRequestDto;
+import com.projectname.adapter.inbound.controller.dto.UserLookupResultDto;
 import com.projectname.adapter.inbound.controller.mapper.UserMapper;
 import com.projectname.application.port.in.UserUseCase;
 import com.projectname.domain.entity.User;
 import com.projectname.domain.exception.ResourceNotFoundException;
+import com.projectname.domain.exception.VersionConflictException;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
 
+import com.projectname.domain.value.UserBatchItem;
 import com.projectname.domain.value.UserId;
+import com.projectname.domain.value.UserLookupResult;
+import com.projectname.domain.value.UserPage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +34,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import tools.jackson.databind.json.JsonMapper;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,12 +102,12 @@ class UserControllerTest {
   void shouldGetAllUsers() {
     // Given
     final var users = Arrays.asList(user1, user2);
-    when(userUseCase.getAllUsers()).thenReturn(users);
+    when(userUseCase.getUsers(null, 50)).thenReturn(UserPage.of(users, null));
     when(userMapper.toDto(user1)).thenReturn(userDto1);
     when(userMapper.toDto(user2)).thenReturn(userDto2);
 
     // When
-    final var response = userController.listUsers();
+    final var response = userController.listUsers(null, null, null);
 
     // Then
     assertNotNull(response);
@@ -101,6 +116,80 @@ class UserControllerTest {
     assertEquals(2, response.getBody().size());
     assertEquals("johndoe", response.getBody().get(0).getUsername());
     assertEquals("janedoe", response.getBody().get(1).getUsername());
+    assertNull(response.getHeaders().getFirst("X-Next-Cursor"));
+  }
+
+  @Test
+  void shouldReturnNextCursorWhenMoreUsersExist() {
+    // Given
+    when(userUseCase.getUsers(UserId.of(1L), 1)).thenReturn(UserPage.of(List.of(user2), UserId.of(2L)));
+    when(userMapper.toDto(user2)).thenReturn(userDto2);
+
+    // When
+    final var response = userController.listUsers(1L, 1, null);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(1, response.getBody().size());
+    assertEquals("2", response.getHeaders().getFirst("X-Next-Cursor"));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldExportUsersAsNdjson() throws Exception {
+    // Given
+    final var controller = new UserController(userUseCase, userMapper, JsonMapper.builder().build());
+    doAnswer(invocation -> {
+      final Consumer<User> sink = invocation.getArgument(0);
+      sink.accept(user1);
+      sink.accept(user2);
+      return null;
+    }).when(userUseCase).exportUsers(any(Consumer.class));
+    when(userMapper.toDto(user1)).thenReturn(userDto1);
+    when(userMapper.toDto(user2)).thenReturn(userDto2);
+
+    // When
+    final var response = controller.exportUsers();
+    final var out = new ByteArrayOutputStream();
+    response.getBody().writeTo(out);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+    final var lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(2, lines.length);
+    assertTrue(lines[0].contains("\"username\":\"johndoe\""));
+    assertTrue(lines[1].contains("\"username\":\"janedoe\""));
+  }
+
+  @Test
+  void shouldSearchUsersWithDefaultLimit() {
+    // Given
+    when(userUseCase.searchUsers("jo", 20)).thenReturn(List.of(user1));
+    when(userMapper.toDto(user1)).thenReturn(userDto1);
+
+    // When
+    final var response = userController.searchUsers("jo", null);
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(List.of(userDto1), response.getBody());
+  }
+
+  @Test
+  void shouldPassLookupIdsToUseCaseAndReturnMappedResult() {
+    // Given
+    final var result = UserLookupResult.of(List.of(user1), List.of(UserId.of(9L)));
+    final var resultDto = UserLookupResultDto.builder().users(List.of(userDto1)).missingIds(List.of(9L)).build();
+    when(userUseCase.getUsersByIds(List.of(UserId.of(9L), UserId.of(1L)))).thenReturn(result);
+    when(userMapper.toDto(result)).thenReturn(resultDto);
+
+    // When
+    final var response = userController.lookupUsers(UserLookupRequestDto.builder().ids(List.of(9L, 1L)).build());
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(resultDto, response.getBody());
   }
 
   @Test
@@ -110,7 +199,7 @@ class UserControllerTest {
     when(userMapper.toDto(user1)).thenReturn(userDto1);
 
     // When
-    final var response = userController.getUserById(1L);
+    final var response = userController.getUserById(1L, null);
 
     // Then
     assertNotNull(response);
@@ -121,6 +210,46 @@ class UserControllerTest {
     assertEquals("john@example.com", response.getBody().getEmail());
   }
 
+  @Test
+  void shouldReturnNotModifiedWhenETagMatches() {
+    // Given
+    user1.setVersion(3L);
+    when(userUseCase.getUserById(UserId.of(1L))).thenReturn(user1);
+    final var eTag = "\"3-" + user1.getUpdatedAt().toInstant().toEpochMilli() + "\"";
+
+    // When
+    final var response = userController.getUserById(1L, "\"stale\", W/" + eTag);
+
+    // Then
+    assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    assertEquals(eTag, response.getHeaders().getETag());
+    assertNull(response.getBody());
+    verifyNoInteractions(userMapper);
+  }
+
+  @Test
+  void shouldPassIfMatchVersionToUseCase() {
+    // Given
+    final var changes = User.builder().username("renamed").build();
+    when(userMapper.toDomain(userDto1)).thenReturn(changes);
+    when(userUseCase.updateUser(UserId.of(1L), changes, 3L)).thenReturn(user1);
+    when(userMapper.toDto(user1)).thenReturn(userDto1);
+
+    // When
+    final var response = userController.updateUser(1L, userDto1, "\"3-1700000000000\"");
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getHeaders().getETag());
+  }
+
+  @Test
+  void shouldRejectIfMatchNotIssuedByApi() {
+    // When & Then
+    assertThrows(VersionConflictException.class, () -> userController.deleteUser(1L, "W/\"3-1700000000000\""));
+    verifyNoInteractions(userUseCase);
+  }
+
   @Test
   void shouldReturn404WhenUserNotFound() {
     // Given
@@ -129,7 +258,7 @@ class UserControllerTest {
 
     // When & Then
     assertThrows(ResourceNotFoundException.class, () -> {
-      userController.getUserById(999L);
+      userController.getUserById(999L, null);
     });
   }
 
@@ -178,6 +307,41 @@ class UserControllerTest {
     assertEquals("newuser@example.com", response.getBody().getEmail());
   }
 
+  @Test
+  void shouldReportPerItemResultsForBatchCreate() {
+    // Given
+    final var newUser = User.builder().username("newuser").email("newuser@example.com").build();
+    final var duplicate = User.builder().username("johndoe").email("other@example.com").build();
+    final var created = UserBatchItem.created(0, user1);
+    final var conflict = UserBatchItem.conflict(1, "username", "Username already exists");
+    final var createdDto = UserBatchItemResultDto.builder()
+        .index(0)
+        .status(UserBatchItemResultDto.StatusEnum.CREATED)
+        .user(userDto1)
+        .build();
+    final var conflictDto = UserBatchItemResultDto.builder()
+        .index(1)
+        .status(UserBatchItemResultDto.StatusEnum.CONFLICT)
+        .field("username")
+        .build();
+
+    when(userMapper.toDomain(userDto1)).thenReturn(newUser);
+    when(userMapper.toDomain(userDto2)).thenReturn(duplicate);
+    when(userUseCase.createUsers(List.of(newUser, duplicate))).thenReturn(List.of(created, conflict));
+    when(userMapper.toDto(created)).thenReturn(createdDto);
+    when(userMapper.toDto(conflict)).thenReturn(conflictDto);
+
+    // When
+    final var response = userController.createUsersBatch(List.of(userDto1, userDto2));
+
+    // Then
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertNotNull(response.getBody());
+    assertEquals(1, response.getBody().getCreated());
+    assertEquals(1, response.getBody().getFailed());
+    assertEquals("username", response.getBody().getItems().get(1).getField());
+  }
+
   @Test
   void shouldUpdateUser() {
     // Given
@@ -208,11 +372,11 @@ class UserControllerTest {
         .build();
 
     when(userMapper.toDomain(any(UserDto.class))).thenReturn(updateUser);
-    when(userUseCase.updateUser(any(UserId.class), any(User.class))).thenReturn(updatedUser);
+    when(userUseCase.updateUser(any(UserId.class), any(User.class), isNull())).thenReturn(updatedUser);
     when(userMapper.toDto(updatedUser)).thenReturn(updatedDTO);
 
     // When
-    final var response = userController.updateUser(1L, updateDTO);
+    final var response = userController.updateUser(1L, updateDTO, null);
 
     // Then
     assertNotNull(response);
@@ -226,10 +390,10 @@ class UserControllerTest {
   @Test
   void shouldDeleteUser() {
     // Given
-    doNothing().when(userUseCase).deleteUser(UserId.of(1L));
+    doNothing().when(userUseCase).deleteUser(UserId.of(1L), null);
 
     // When
-    final var response = userController.deleteUser(1L);
+    final var response = userController.deleteUser(1L, null);
 
     // Then
     assertNotNull(response);
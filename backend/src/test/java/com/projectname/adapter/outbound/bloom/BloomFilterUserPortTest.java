@@ -0,0 +1,115 @@
+package com.projectname.adapter.outbound.bloom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for BloomFilterUserPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class BloomFilterUserPortTest {
+
+  @Mock
+  private UserPort delegate;
+
+  private UserMembershipFilter filter;
+  private BloomFilterUserPort bloomFilterUserPort;
+
+  @BeforeEach
+  void setUp() {
+    filter = new UserMembershipFilter(1000, 0.01);
+    bloomFilterUserPort = new BloomFilterUserPort(delegate, filter, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldPassLookupsThroughUntilRebuilt() {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+
+    // When
+    final var result = bloomFilterUserPort.findById(UserId.of(1L));
+
+    // Then
+    assertEquals("johndoe", result.orElseThrow().getUsername());
+  }
+
+  @Test
+  void shouldAnswerMissingUsersWithoutDelegate() {
+    // Given
+    rebuildWith(user(1L, "johndoe"));
+
+    // When
+    final var byId = bloomFilterUserPort.findById(UserId.of(42L));
+    final var taken = bloomFilterUserPort.findExistingUsernames(List.of("janedoe"));
+
+    // Then
+    assertTrue(byId.isEmpty());
+    assertTrue(taken.isEmpty());
+    verify(delegate, never()).findById(any());
+    verify(delegate, never()).findExistingUsernames(any());
+  }
+
+  @Test
+  void shouldAskDelegateForPossiblyExistingUsers() {
+    // Given
+    rebuildWith(user(1L, "johndoe"));
+    when(delegate.findExistingUsernames(List.of("johndoe"))).thenReturn(Set.of("johndoe"));
+
+    // When
+    final var taken = bloomFilterUserPort.findExistingUsernames(List.of("johndoe", "janedoe"));
+
+    // Then
+    assertEquals(Set.of("johndoe"), taken);
+  }
+
+  @Test
+  void shouldFindUsersSavedAfterRebuild() {
+    // Given
+    rebuildWith();
+    final var saved = user(2L, "janedoe");
+    when(delegate.save(any(User.class))).thenReturn(saved);
+    when(delegate.findById(UserId.of(2L))).thenReturn(Optional.of(saved));
+    bloomFilterUserPort.save(User.builder().username("janedoe").email("janedoe@example.com").build());
+
+    // When
+    final var result = bloomFilterUserPort.findById(UserId.of(2L));
+
+    // Then
+    assertEquals("janedoe", result.orElseThrow().getUsername());
+  }
+
+  private void rebuildWith(final User... users) {
+    doAnswer(invocation -> {
+      List.of(users).forEach(invocation.<Consumer<User>>getArgument(0));
+      return null;
+    }).when(delegate).streamAll(any());
+    filter.rebuild(delegate);
+  }
+
+  private static User user(final long id, final String username) {
+    return User.builder()
+        .id(UserId.of(id))
+        .username(username)
+        .email(username + "@example.com")
+        .build();
+  }
+}
@@ -0,0 +1,204 @@
+package com.projectname.adapter.outbound.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for CachingUserPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingUserPortTest {
+
+  @Mock
+  private UserPort delegate;
+
+  private CachingUserPort cachingUserPort;
+
+  @BeforeEach
+  void setUp() {
+    cachingUserPort = new CachingUserPort(
+        delegate, 100, Duration.ofMinutes(1), Duration.ZERO, new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCache() {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+
+    // When
+    cachingUserPort.findById(UserId.of(1L));
+    final var second = cachingUserPort.findById(UserId.of(1L));
+
+    // Then
+    assertEquals("johndoe", second.orElseThrow().getUsername());
+    verify(delegate, times(1)).findById(UserId.of(1L));
+  }
+
+  @Test
+  void shouldNotLeakCallerMutationsIntoCache() {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+
+    // When
+    cachingUserPort.findById(UserId.of(1L)).orElseThrow().setUsername("mutated");
+
+    // Then
+    assertEquals("johndoe", cachingUserPort.findById(UserId.of(1L)).orElseThrow().getUsername());
+  }
+
+  @Test
+  void shouldReloadAfterSave() {
+    // Given
+    final var updated = user(1L, "renamed");
+    when(delegate.findById(UserId.of(1L)))
+        .thenReturn(Optional.of(user(1L, "johndoe")))
+        .thenReturn(Optional.of(updated));
+    when(delegate.save(updated)).thenReturn(updated);
+    cachingUserPort.findById(UserId.of(1L));
+
+    // When
+    cachingUserPort.save(updated);
+
+    // Then
+    assertEquals("renamed", cachingUserPort.findById(UserId.of(1L)).orElseThrow().getUsername());
+    verify(delegate, times(2)).findById(UserId.of(1L));
+  }
+
+  @Test
+  void shouldReloadAfterDelete() {
+    // Given
+    when(delegate.findById(UserId.of(1L)))
+        .thenReturn(Optional.of(user(1L, "johndoe")))
+        .thenReturn(Optional.empty());
+    cachingUserPort.findById(UserId.of(1L));
+
+    // When
+    cachingUserPort.deleteById(UserId.of(1L), null);
+
+    // Then
+    assertTrue(cachingUserPort.findById(UserId.of(1L)).isEmpty());
+  }
+
+  @Test
+  void shouldEvictReadRacingUncommittedUpdateOnceCommitted() {
+    // Given
+    final var updated = user(1L, "renamed");
+    when(delegate.update(UserId.of(1L), updated, null)).thenReturn(Optional.of(updated));
+    when(delegate.findById(UserId.of(1L)))
+        .thenReturn(Optional.of(user(1L, "johndoe")))
+        .thenReturn(Optional.of(updated));
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      cachingUserPort.update(UserId.of(1L), updated, null);
+      // A concurrent read before the commit still sees, and caches, the committed old row.
+      cachingUserPort.findById(UserId.of(1L));
+
+      // When
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    // Then
+    assertEquals("renamed", cachingUserPort.findById(UserId.of(1L)).orElseThrow().getUsername());
+  }
+
+  @Test
+  void shouldNotCacheReadsWithinStaleReadWindowAfterWrite() {
+    // Given
+    final var laggingPort = new CachingUserPort(
+        delegate, 100, Duration.ofMinutes(1), Duration.ofMinutes(1), new SimpleMeterRegistry());
+    final var updated = user(1L, "renamed");
+    when(delegate.update(UserId.of(1L), updated, null)).thenReturn(Optional.of(updated));
+    // A lagging replica still answers with the old row.
+    when(delegate.findById(UserId.of(1L)))
+        .thenReturn(Optional.of(user(1L, "johndoe")))
+        .thenReturn(Optional.of(updated));
+    laggingPort.update(UserId.of(1L), updated, null);
+
+    // When
+    laggingPort.findById(UserId.of(1L));
+    final var second = laggingPort.findById(UserId.of(1L));
+
+    // Then
+    assertEquals("renamed", second.orElseThrow().getUsername());
+    verify(delegate, times(2)).findById(UserId.of(1L));
+  }
+
+  @Test
+  void shouldLoadOnlyMissesOfBulkLookup() {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+    cachingUserPort.findById(UserId.of(1L));
+    when(delegate.findAllById(List.of(UserId.of(2L), UserId.of(3L)))).thenReturn(List.of(user(2L, "janedoe")));
+
+    // When
+    final var users = cachingUserPort.findAllById(List.of(UserId.of(2L), UserId.of(1L), UserId.of(3L)));
+
+    // Then
+    assertEquals(Set.of("johndoe", "janedoe"), users.stream().map(User::getUsername).collect(Collectors.toSet()));
+    verify(delegate).findAllById(List.of(UserId.of(2L), UserId.of(3L)));
+  }
+
+  @Test
+  void shouldNotQueryDelegateWhenBulkLookupIsAllHits() {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+    cachingUserPort.findById(UserId.of(1L));
+
+    // When
+    final var users = cachingUserPort.findAllById(List.of(UserId.of(1L)));
+
+    // Then
+    assertEquals(1, users.size());
+    verify(delegate, never()).findAllById(anyCollection());
+  }
+
+  @Test
+  void shouldResolveUsernameThroughIdCache() {
+    // Given
+    final var user = user(1L, "johndoe");
+    when(delegate.findByUsername("johndoe")).thenReturn(Optional.of(user));
+    when(delegate.findById(UserId.of(1L))).thenReturn(Optional.of(user(1L, "johndoe")));
+    cachingUserPort.findByUsername("johndoe");
+
+    // When
+    cachingUserPort.findByUsername("johndoe");
+    final var third = cachingUserPort.findByUsername("johndoe");
+
+    // Then
+    assertEquals(UserId.of(1L), third.orElseThrow().getId());
+    verify(delegate, times(1)).findByUsername("johndoe");
+    verify(delegate, times(1)).findById(UserId.of(1L));
+  }
+
+  private static User user(final long id, final String username) {
+    return User.builder()
+        .id(UserId.of(id))
+        .username(username)
+        .email(username + "@example.com")
+        .build();
+  }
+}
@@ -0,0 +1,123 @@
+package com.projectname.adapter.outbound.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for CoalescingUserPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class CoalescingUserPortTest {
+
+  @Mock
+  private UserPort delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CoalescingUserPort coalescingUserPort;
+  private ExecutorService executor;
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    coalescingUserPort = new CoalescingUserPort(delegate, Duration.ofSeconds(10), meterRegistry);
+    executor = Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    executor.close();
+  }
+
+  @Test
+  void shouldShareLookupBetweenConcurrentCallers() throws Exception {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenAnswer(invocation -> {
+      release.await();
+      return Optional.of(user());
+    });
+
+    // When
+    final var first = executor.submit(() -> coalescingUserPort.findById(UserId.of(1L)));
+    awaitCoalesced(UserId.of(1L));
+    release.countDown();
+
+    // Then
+    assertEquals("johndoe", first.get().orElseThrow().getUsername());
+    verify(delegate, times(1)).findById(UserId.of(1L));
+  }
+
+  @Test
+  void shouldPropagateFailureToWaiters() throws Exception {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenAnswer(invocation -> {
+      release.await();
+      throw new IllegalStateException("database down");
+    });
+
+    // When
+    final var first = executor.submit(() -> coalescingUserPort.findById(UserId.of(1L)));
+    final var waiter = awaitCoalesced(UserId.of(1L));
+    release.countDown();
+
+    // Then
+    final var failure = waiter.handle((user, e) -> e).join();
+    assertInstanceOf(IllegalStateException.class, failure.getCause());
+  }
+
+  @Test
+  void shouldStartFreshLookupAfterWrite() throws Exception {
+    // Given
+    when(delegate.findById(UserId.of(1L))).thenAnswer(invocation -> {
+      release.await();
+      return Optional.of(user());
+    });
+    final var stale = executor.submit(() -> coalescingUserPort.findById(UserId.of(1L)));
+    awaitCoalesced(UserId.of(1L));
+
+    // When
+    coalescingUserPort.deleteById(UserId.of(1L), null);
+    final var fresh = executor.submit(() -> coalescingUserPort.findById(UserId.of(1L)));
+    release.countDown();
+    fresh.get();
+
+    // Then
+    verify(delegate, times(2)).findById(UserId.of(1L));
+  }
+
+  /**
+   * Starts another reader and returns once one of the readers has joined the other's lookup.
+   */
+  private CompletableFuture<Optional<User>> awaitCoalesced(final UserId id) throws InterruptedException {
+    final var waiter = CompletableFuture.supplyAsync(() -> coalescingUserPort.findById(id), executor);
+    while (meterRegistry.get("app.user.port.coalesced").tag("operation", "findById").counter().count() < 1) {
+      Thread.sleep(1);
+    }
+    return waiter;
+  }
+
+  private static User user() {
+    return User.builder().id(UserId.of(1L)).username("johndoe").email("john@example.com").build();
+  }
+}
@@ -0,0 +1,123 @@
+package com.projectname.adapter.outbound.groupcommit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Unit tests for GroupCommitUserPort.
+ */
+@ExtendWith(MockitoExtension.class)
+class GroupCommitUserPortTest {
+
+  @Mock
+  private UserPort delegate;
+
+  private GroupCommitUserPort groupCommitUserPort;
+
+  @BeforeEach
+  void setUp() {
+    // A long window, so a batch is flushed once both test inserts have arrived.
+    groupCommitUserPort = new GroupCommitUserPort(delegate, 10, 2, Duration.ofSeconds(10),
+        Duration.ofSeconds(30), new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    groupCommitUserPort.close();
+  }
+
+  @Test
+  void shouldWriteConcurrentInsertsInOneBatch() {
+    // Given
+    when(delegate.saveAll(anyList())).thenAnswer(invocation -> {
+      final List<User> users = invocation.getArgument(0);
+      return users.stream().map(user -> saved(user, user.getUsername().equals("alice") ? 1L : 2L)).toList();
+    });
+
+    // When
+    final var results = saveConcurrently(user("alice"), user("bob"));
+
+    // Then
+    assertEquals(UserId.of(1L), results.get(0).join().getId());
+    assertEquals(UserId.of(2L), results.get(1).join().getId());
+    verify(delegate, times(1)).saveAll(anyList());
+  }
+
+  @Test
+  void shouldReportConstraintViolationOnlyToConflictingCaller() {
+    // Given
+    final var alice = user("alice");
+    final var bob = user("bob");
+    when(delegate.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("duplicate"));
+    when(delegate.save(alice)).thenReturn(saved(alice, 1L));
+    when(delegate.save(bob)).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+    // When
+    final var results = saveConcurrently(alice, bob);
+
+    // Then
+    assertEquals(UserId.of(1L), results.get(0).join().getId());
+    final var failure = results.get(1).handle((user, e) -> e).join();
+    assertInstanceOf(DataIntegrityViolationException.class, ((CompletionException) failure).getCause());
+  }
+
+  @Test
+  void shouldFailTheBatchButKeepFlushingWhenTheDelegateThrowsAnError() {
+    // Given
+    when(delegate.saveAll(anyList()))
+        .thenThrow(new StackOverflowError())
+        .thenAnswer(invocation -> {
+          final List<User> users = invocation.getArgument(0);
+          return users.stream().map(user -> saved(user, user.getUsername().equals("carol") ? 3L : 4L)).toList();
+        });
+    final var failed = saveConcurrently(user("alice"), user("bob"));
+
+    // When
+    final var results = saveConcurrently(user("carol"), user("dave"));
+
+    // Then
+    final var failure = failed.get(0).handle((user, e) -> e).join();
+    assertInstanceOf(IllegalStateException.class, ((CompletionException) failure).getCause());
+    assertEquals(UserId.of(3L), results.get(0).join().getId());
+    assertEquals(UserId.of(4L), results.get(1).join().getId());
+  }
+
+  private List<CompletableFuture<User>> saveConcurrently(final User first, final User second) {
+    final var executor = Executors.newVirtualThreadPerTaskExecutor();
+    final var results = List.of(
+        CompletableFuture.supplyAsync(() -> groupCommitUserPort.save(first), executor),
+        CompletableFuture.supplyAsync(() -> groupCommitUserPort.save(second), executor));
+    CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).exceptionally(e -> null).join();
+    executor.close();
+    return results;
+  }
+
+  private static User user(final String username) {
+    return User.builder().username(username).email(username + "@example.com").build();
+  }
+
+  private static User saved(final User user, final long id) {
+    return user.toBuilder().id(UserId.of(id)).build();
+  }
+}
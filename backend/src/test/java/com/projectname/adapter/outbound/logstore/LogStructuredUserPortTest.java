@@ -0,0 +1,180 @@
+package com.projectname.adapter.outbound.logstore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.projectname.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Unit tests for LogStructuredUserPort.
+ */
+class LogStructuredUserPortTest {
+
+  @TempDir
+  Path directory;
+
+  private LogStructuredUserPort port;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    port.close();
+  }
+
+  @Test
+  void shouldRecoverLatestStateAfterReopen() throws InterruptedException {
+    // Given
+    port = open();
+    final var john = port.save(newUser("johndoe"));
+    final var jane = port.save(newUser("janedoe"));
+    port.update(john.getId(), User.builder().username("johnny").build(), 0L);
+    port.deleteById(jane.getId(), null);
+    port.close();
+
+    // When
+    port = open();
+
+    // Then
+    assertEquals(List.of("johnny"), port.findAll().stream().map(User::getUsername).toList());
+    assertEquals(1L, port.findById(john.getId()).orElseThrow().getVersion());
+    assertTrue(port.findByUsername("johndoe").isEmpty());
+    assertEquals(jane.getId().toLong() + 1, port.save(newUser("janedoe")).getId().toLong());
+  }
+
+  @Test
+  void shouldDiscardTornWriteAndKeepAppending() throws IOException, InterruptedException {
+    // Given
+    port = open();
+    port.save(newUser("johndoe"));
+    port.close();
+    corruptFirstFrame();
+
+    // When
+    port = open();
+    final var jane = port.save(newUser("janedoe"));
+    port.close();
+    port = open();
+
+    // Then
+    assertTrue(port.findByUsername("johndoe").isEmpty());
+    assertEquals("janedoe", port.findById(jane.getId()).orElseThrow().getUsername());
+  }
+
+  @Test
+  void shouldRejectDuplicatesWithoutWritingAnyOfTheBatch() {
+    // Given
+    port = open();
+    port.save(newUser("johndoe"));
+
+    // When
+    assertThrows(DataIntegrityViolationException.class,
+        () -> port.saveAll(List.of(newUser("janedoe"), newUser("johndoe"))));
+
+    // Then
+    assertTrue(port.findByUsername("janedoe").isEmpty());
+  }
+
+  @Test
+  void shouldKeepLatestRecordsWhenCompacting() throws InterruptedException {
+    // Given
+    port = open();
+    final var john = port.save(newUser("johndoe"));
+    for (int i = 0; i < 200; i++) {
+      port.update(john.getId(), User.builder().email("john" + i + "@example.com").build(), null);
+    }
+    final var segmentsBefore = segmentFiles();
+
+    // When
+    port.compact();
+    port.close();
+    port = open();
+
+    // Then
+    assertTrue(segmentFiles() < segmentsBefore);
+    assertEquals("john199@example.com", port.findById(john.getId()).orElseThrow().getEmail());
+    assertEquals(List.of(john.getId()), port.findAll().stream().map(User::getId).toList());
+  }
+
+  @Test
+  void shouldNotReuseIdOfDeletedNewestUserAfterCompaction() throws InterruptedException {
+    // Given
+    port = open();
+    final var john = port.save(newUser("johndoe"));
+    final var jane = port.save(newUser("janedoe"));
+    port.deleteById(jane.getId(), null);
+    for (int i = 0; i < 200; i++) {
+      port.update(john.getId(), User.builder().email("john" + i + "@example.com").build(), null);
+    }
+    port.compact();
+    port.close();
+
+    // When
+    port = open();
+    final var next = port.save(newUser("jimdoe"));
+
+    // Then
+    assertEquals(jane.getId().toLong() + 1, next.getId().toLong());
+  }
+
+  @Test
+  void shouldSearchBothKeysInUsernameOrderBeforeTheLimit() {
+    // Given
+    port = open();
+    port.save(newUser("adam"));
+    port.save(newUser("Alex"));
+    port.save(User.builder().username("bob").email("azz@example.com").build());
+    port.save(User.builder().username("carl").email("aaa@example.com").build());
+    port.save(User.builder().username("zoe").email("aab@example.com").build());
+
+    // When
+    final var found = port.searchByPrefix("a", 3);
+
+    // Then
+    assertEquals(List.of("adam", "Alex", "bob"), found.stream().map(User::getUsername).toList());
+  }
+
+  private LogStructuredUserPort open() {
+    return new LogStructuredUserPort(directory, 4096, FsyncPolicy.NEVER, Duration.ofHours(1), Duration.ofHours(1),
+        0.5, new SimpleMeterRegistry());
+  }
+
+  private long segmentFiles() {
+    try (var files = Files.list(directory)) {
+      return files.count();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Flips a byte in the body of the first frame, as if the write had not reached the disk.
+   */
+  private void corruptFirstFrame() throws IOException {
+    try (var channel = FileChannel.open(Segment.path(directory, 1), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      final var position = Segment.HEADER_SIZE + Segment.FRAME_HEADER_SIZE + 1;
+      final var value = ByteBuffer.allocate(1);
+      channel.read(value, position);
+      channel.write(ByteBuffer.wrap(new byte[] {(byte) ~value.get(0)}), position);
+    }
+  }
+
+  private static User newUser(final String username) {
+    return User.builder()
+        .username(username)
+        .email(username + "@example.com")
+        .build();
+  }
+}
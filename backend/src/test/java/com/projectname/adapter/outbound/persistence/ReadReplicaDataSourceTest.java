@@ -0,0 +1,118 @@
+package com.projectname.adapter.outbound.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for ReadReplicaDataSource, with in-memory H2 databases as primary and replica.
+ */
+class ReadReplicaDataSourceTest {
+
+  private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+  private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+  private static final String MISSING_URL = "jdbc:h2:mem:routing-missing;IFEXISTS=TRUE";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldRouteToReplicaOnceItIsChecked() throws Exception {
+    // Given
+    try (var routing = routing(REPLICA_URL, "0")) {
+      awaitAvailable("replica-0");
+
+      // When
+      final var url = connectionUrl(routing);
+
+      // Then
+      assertTrue(url.startsWith("jdbc:h2:mem:routing-replica"), url);
+      assertEquals(1.0, meterRegistry.get("app.datasource.routed").tag("target", "replica-0").counter().count());
+    }
+  }
+
+  @Test
+  void shouldRouteConnectionsWithExplicitCredentialsToReplica() throws Exception {
+    // Given
+    try (var routing = routing(REPLICA_URL, "0")) {
+      awaitAvailable("replica-0");
+
+      // When
+      final String url;
+      try (var connection = routing.getConnection("", "")) {
+        url = connection.getMetaData().getURL();
+      }
+
+      // Then
+      assertTrue(url.startsWith("jdbc:h2:mem:routing-replica"), url);
+    }
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaIsUnreachable() throws Exception {
+    // Given
+    try (var routing = routing(MISSING_URL, "0")) {
+
+      // When
+      final var url = connectionUrl(routing);
+
+      // Then
+      assertTrue(url.startsWith("jdbc:h2:mem:routing-primary"), url);
+      assertEquals(1.0, meterRegistry.get("app.datasource.routed").tag("target", "primary").counter().count());
+    }
+  }
+
+  @Test
+  void shouldFallBackToPrimaryWhenReplicaLagsTooFarBehind() throws Exception {
+    // Given
+    try (var routing = routing(REPLICA_URL, "60000")) {
+      awaitChecked("replica-0");
+
+      // When
+      final var url = connectionUrl(routing);
+
+      // Then
+      assertTrue(url.startsWith("jdbc:h2:mem:routing-primary"), url);
+    }
+  }
+
+  private ReadReplicaDataSource routing(final String replicaUrl, final String lagMillis) {
+    return new ReadReplicaDataSource(
+        new DriverManagerDataSource(PRIMARY_URL),
+        Map.of("replica-0", new DriverManagerDataSource(replicaUrl)),
+        Duration.ofSeconds(5),
+        "SELECT " + lagMillis,
+        Duration.ofMillis(50),
+        meterRegistry);
+  }
+
+  private static String connectionUrl(final DataSource dataSource) throws SQLException {
+    try (var connection = dataSource.getConnection()) {
+      return connection.getMetaData().getURL();
+    }
+  }
+
+  private void awaitAvailable(final String replica) throws InterruptedException {
+    for (int i = 0; i < 100 && gauge("app.datasource.replica.available", replica) < 1; i++) {
+      Thread.sleep(20);
+    }
+    assertEquals(1.0, gauge("app.datasource.replica.available", replica));
+  }
+
+  private void awaitChecked(final String replica) throws InterruptedException {
+    for (int i = 0; i < 100 && gauge("app.datasource.replica.lag", replica) == 0; i++) {
+      Thread.sleep(20);
+    }
+    assertTrue(gauge("app.datasource.replica.lag", replica) > 0);
+  }
+
+  private double gauge(final String name, final String replica) {
+    return meterRegistry.get(name).tag("replica", replica).gauge().value();
+  }
+}
@@ -0,0 +1,160 @@
+package com.projectname.adapter.outbound.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.projectname.adapter.outbound.persistence.mapper.UserJpaMapper;
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for UserRepositoryAdapter against an in-memory H2 database with the application schema.
+ */
+class UserRepositoryAdapterTest {
+
+  private AnnotationConfigApplicationContext context;
+  private UserPort adapter;
+  private EntityManager entityManager;
+  private TransactionTemplate transaction;
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigApplicationContext(Jpa.class);
+    // Transactional, so proxied behind its interface.
+    adapter = context.getBean(UserPort.class);
+    entityManager = context.getBean(EntityManager.class);
+    transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+  }
+
+  @Test
+  void shouldUpdateWithOneStatementAndReReadOnlyThatRow() {
+    // Given
+    final var john = adapter.save(user("johndoe"));
+    final var jane = adapter.save(user("janedoe"));
+    final var changes = User.builder().username("johnny").build();
+
+    transaction.executeWithoutResult(status -> {
+      final var loadedJohn = entityManager.find(UserJpaEntity.class, john.getId().toLong());
+      final var loadedJane = entityManager.find(UserJpaEntity.class, jane.getId().toLong());
+      statistics.clear();
+
+      // When
+      final var updated = adapter.update(john.getId(), changes, john.getVersion()).orElseThrow();
+
+      // Then
+      assertEquals("johnny", updated.getUsername());
+      assertEquals(john.getVersion() + 1, updated.getVersion());
+      assertEquals("johnny", loadedJohn.getUsername());
+      assertTrue(entityManager.contains(loadedJane));
+      assertEquals(2, statistics.getPrepareStatementCount());
+    });
+  }
+
+  @Test
+  void shouldLookUpIdsBeyondOneInListChunk() {
+    // Given
+    final var saved = adapter.saveAll(IntStream.range(0, 600).mapToObj(i -> user("user" + i)).toList());
+    final var ids = new ArrayList<UserId>();
+    saved.forEach(user -> ids.add(user.getId()));
+    ids.add(UserId.of(999_999L));
+    statistics.clear();
+
+    // When
+    final var found = adapter.findAllById(ids);
+
+    // Then
+    assertEquals(600, found.size());
+    assertEquals(saved.stream().map(User::getId).collect(Collectors.toSet()),
+        found.stream().map(User::getId).collect(Collectors.toSet()));
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void shouldSearchBothColumnsInUsernameOrderBeforeTheLimit() {
+    // Given
+    adapter.save(user("adam"));
+    adapter.save(user("Alex"));
+    adapter.save(User.builder().username("bob").email("azz@example.com").build());
+    adapter.save(User.builder().username("carl").email("aaa@example.com").build());
+    adapter.save(User.builder().username("zoe").email("aab@example.com").build());
+
+    // When
+    final var found = adapter.searchByPrefix("a", 3);
+
+    // Then
+    assertEquals(List.of("adam", "Alex", "bob"), found.stream().map(User::getUsername).toList());
+  }
+
+  private static User user(final String username) {
+    return User.builder().username(username).email(username + "@example.com").build();
+  }
+
+  @Configuration
+  @EnableTransactionManagement
+  @EnableJpaRepositories(basePackageClasses = UserJpaRepository.class)
+  @ComponentScan(basePackageClasses = UserJpaMapper.class)
+  @Import(UserRepositoryAdapter.class)
+  static class Jpa {
+
+    @Bean
+    DataSource dataSource() {
+      return new EmbeddedDatabaseBuilder()
+          .setType(EmbeddedDatabaseType.H2)
+          .generateUniqueName(true)
+          .addScript("schema.sql")
+          .build();
+    }
+
+    @Bean
+    LocalContainerEntityManagerFactoryBean entityManagerFactory(final DataSource dataSource) {
+      final var factory = new LocalContainerEntityManagerFactoryBean();
+      factory.setDataSource(dataSource);
+      factory.setPackagesToScan(UserJpaEntity.class.getPackageName());
+      factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+      factory.setJpaPropertyMap(Map.of(
+          "hibernate.generate_statistics", "true",
+          "hibernate.query.in_clause_parameter_padding", "true"));
+      return factory;
+    }
+
+    @Bean
+    JpaTransactionManager transactionManager(final EntityManagerFactory entityManagerFactory) {
+      return new JpaTransactionManager(entityManagerFactory);
+    }
+  }
+}
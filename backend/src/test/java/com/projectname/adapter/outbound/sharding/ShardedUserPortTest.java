@@ -0,0 +1,143 @@
+package com.projectname.adapter.outbound.sharding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.projectname.domain.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for ShardedUserPort, with in-memory H2 databases as shards and directory.
+ */
+class ShardedUserPortTest {
+
+  private static final int SHARDS = 3;
+
+  private SimpleMeterRegistry meterRegistry;
+  private ShardedUserPort shardedUserPort;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    final List<JdbcUserShard> shards = new ArrayList<>();
+    for (int i = 0; i < SHARDS; i++) {
+      final var dataSource = inMemoryDatabase();
+      JdbcUserShard.initializeSchema(dataSource, i, SHARDS);
+      shards.add(new JdbcUserShard(i, dataSource));
+    }
+    final var directory = inMemoryDatabase();
+    UserDirectory.initializeSchema(directory);
+    shardedUserPort = new ShardedUserPort(shards, new UserDirectory(directory), meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    shardedUserPort.close();
+  }
+
+  @Test
+  void shouldSpreadUsersAndMergeListingsById() {
+    // Given
+    final List<User> users = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      users.add(newUser("user" + i));
+    }
+    final var saved = shardedUserPort.saveAll(users);
+
+    // When
+    final var firstPage = shardedUserPort.findAllAfter(null, 4);
+    final var secondPage = shardedUserPort.findAllAfter(firstPage.getLast().getId(), 4);
+
+    // Then
+    final var expected = saved.stream().map(user -> user.getId().toLong()).sorted().toList();
+    assertEquals(expected.subList(0, 4), firstPage.stream().map(user -> user.getId().toLong()).toList());
+    assertEquals(expected.subList(4, 7), secondPage.stream().map(user -> user.getId().toLong()).toList());
+    for (int shard = 0; shard < SHARDS; shard++) {
+      assertEquals(1, meterRegistry.get("app.user.shard")
+          .tags("shard", Integer.toString(shard), "operation", "insertAll")
+          .timer()
+          .count());
+    }
+  }
+
+  @Test
+  void shouldRejectUsernameTakenOnAnotherShard() {
+    // Given
+    shardedUserPort.save(newUser("johndoe"));
+
+    // When
+    assertThrows(DataIntegrityViolationException.class,
+        () -> shardedUserPort.save(newUser("johndoe").toBuilder().email("other@example.com").build()));
+
+    // Then
+    assertEquals(1, shardedUserPort.findAll().size());
+    assertTrue(shardedUserPort.findExistingEmails(List.of("other@example.com")).isEmpty());
+  }
+
+  @Test
+  void shouldFindUserByNewUsernameAfterUpdate() {
+    // Given
+    final var john = shardedUserPort.save(newUser("johndoe"));
+
+    // When
+    shardedUserPort.update(john.getId(), User.builder().username("johnny").build(), 0L);
+
+    // Then
+    assertEquals(john.getId(), shardedUserPort.findByUsername("johnny").orElseThrow().getId());
+    assertTrue(shardedUserPort.findByUsername("johndoe").isEmpty());
+    assertEquals(1, shardedUserPort.deleteById(john.getId(), 1L));
+    assertTrue(shardedUserPort.findExistingUsernames(List.of("johnny")).isEmpty());
+  }
+
+  @Test
+  void shouldReleaseClaimedUsernameWhenUpdateFindsStaleVersion() {
+    // Given
+    final var john = shardedUserPort.save(newUser("johndoe"));
+
+    // When
+    final var updated = shardedUserPort.update(john.getId(), User.builder().username("johnny").build(), 5L);
+
+    // Then
+    assertTrue(updated.isEmpty());
+    assertTrue(shardedUserPort.findExistingUsernames(List.of("johnny")).isEmpty());
+    assertEquals("johnny", shardedUserPort.save(newUser("johnny")).getUsername());
+  }
+
+  @Test
+  void shouldSearchAllShardsInUsernameOrderBeforeTheLimit() {
+    // Given
+    shardedUserPort.saveAll(List.of(
+        newUser("adam"),
+        newUser("Alex"),
+        newUser("bob").toBuilder().email("azz@example.com").build(),
+        newUser("carl").toBuilder().email("aaa@example.com").build(),
+        newUser("zoe").toBuilder().email("aab@example.com").build()));
+
+    // When
+    final var found = shardedUserPort.searchByPrefix("a", 3);
+
+    // Then
+    assertEquals(List.of("adam", "Alex", "bob"), found.stream().map(User::getUsername).toList());
+  }
+
+  private static DataSource inMemoryDatabase() {
+    return new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+  }
+
+  private static User newUser(final String username) {
+    return User.builder()
+        .username(username)
+        .email(username + "@example.com")
+        .build();
+  }
+}
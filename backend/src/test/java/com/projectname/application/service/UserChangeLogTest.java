@@ -0,0 +1,66 @@
+package com.projectname.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.projectname.domain.entity.User;
+import com.projectname.domain.value.UserChangeType;
+import com.projectname.domain.value.UserId;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for UserChangeLog.
+ */
+class UserChangeLogTest {
+
+  private final UserChangeLog userChangeLog = new UserChangeLog();
+
+  @Test
+  void shouldReturnChangesAfterSequenceInOrder() {
+    // Given
+    final long start = userChangeLog.latestSequence();
+    userChangeLog.record(UserChangeType.CREATED, UserId.of(1L), user(1L));
+    userChangeLog.record(UserChangeType.DELETED, UserId.of(1L), null);
+
+    // When
+    final var batch = userChangeLog.readAfter(start, 10);
+
+    // Then
+    assertFalse(batch.isResyncRequired());
+    assertEquals(2, batch.getChanges().size());
+    assertEquals(UserChangeType.CREATED, batch.getChanges().get(0).getType());
+    assertEquals(UserChangeType.DELETED, batch.getChanges().get(1).getType());
+    assertEquals(start + 2, batch.getLastSequence());
+  }
+
+  @Test
+  void shouldRequireResyncOnceChangesAreOverwritten() {
+    // Given
+    final long start = userChangeLog.latestSequence();
+    for (int i = 0; i <= UserChangeLog.CAPACITY; i++) {
+      userChangeLog.record(UserChangeType.UPDATED, UserId.of(1L), user(1L));
+    }
+
+    // When
+    final var batch = userChangeLog.readAfter(start, 10);
+
+    // Then
+    assertTrue(batch.isResyncRequired());
+    assertEquals(userChangeLog.latestSequence(), batch.getLastSequence());
+    assertEquals(start + 2, userChangeLog.readAfter(start + 1, 1).getChanges().getFirst().getSequence());
+  }
+
+  @Test
+  void shouldRequireResyncForSequenceFromBeforeRestart() {
+    // When
+    final var batch = userChangeLog.readAfter(42L, 10);
+
+    // Then
+    assertTrue(batch.isResyncRequired());
+  }
+
+  private static User user(final long id) {
+    return User.builder().id(UserId.of(id)).username("johndoe").email("john@example.com").build();
+  }
+}
@@ -0,0 +1,136 @@
+package com.projectname.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.projectname.application.port.UserPort;
+import com.projectname.domain.entity.User;
+import com.projectname.domain.exception.DuplicateUserException;
+import com.projectname.domain.value.UserId;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Unit tests for UserService.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+  @Mock
+  private UserPort userPort;
+
+  @Mock
+  private UserChangeLog userChangeLog;
+
+  @InjectMocks
+  private UserService userService;
+
+  @Test
+  void shouldNameTheFieldWhenTheUniqueConstraintRejectsACreate() {
+    // Given
+    final var user = User.builder().username("johndoe").email("john@example.com").build();
+    when(userPort.save(user)).thenThrow(new DataIntegrityViolationException("Email already exists",
+        new DuplicateUserException("email", "Email already exists: john@example.com")));
+
+    // When
+    final var thrown = assertThrows(DuplicateUserException.class, () -> userService.createUser(user));
+
+    // Then
+    assertEquals("email", thrown.getField());
+    verify(userPort, never()).findExistingEmails(anyCollection());
+    verifyNoInteractions(userChangeLog);
+  }
+
+  @Test
+  void shouldReportTakenUsernameOnUpdateAsDuplicate() {
+    // Given
+    final var constraint = new DataIntegrityViolationException("Username already exists: janedoe");
+    when(userPort.update(eq(UserId.of(1L)), any(User.class), isNull())).thenThrow(constraint);
+    final var changes = User.builder().username("janedoe").build();
+
+    // When
+    final var thrown = assertThrows(DuplicateUserException.class,
+        () -> userService.updateUser(UserId.of(1L), changes, null));
+
+    // Then
+    assertInstanceOf(DataIntegrityViolationException.class, thrown.getCause());
+    verifyNoInteractions(userChangeLog);
+  }
+
+  @Test
+  void shouldAnswerLookupInRequestedOrderAndNameMissingIds() {
+    // Given
+    final var john = user(1L, "johndoe");
+    final var jane = user(2L, "janedoe");
+    final var requested = List.of(UserId.of(2L), UserId.of(9L), UserId.of(1L));
+    when(userPort.findAllById(Set.copyOf(requested))).thenReturn(List.of(john, jane));
+
+    // When
+    final var result = userService.getUsersByIds(requested);
+
+    // Then
+    assertEquals(List.of(jane, john), result.getUsers());
+    assertEquals(List.of(UserId.of(9L)), result.getMissingIds());
+  }
+
+  @Test
+  void shouldAnswerDuplicateIdsOnce() {
+    // Given
+    final var john = user(1L, "johndoe");
+    final var requested = List.of(UserId.of(1L), UserId.of(7L), UserId.of(1L), UserId.of(7L));
+    when(userPort.findAllById(Set.of(UserId.of(1L), UserId.of(7L)))).thenReturn(List.of(john));
+
+    // When
+    final var result = userService.getUsersByIds(requested);
+
+    // Then
+    assertEquals(List.of(john), result.getUsers());
+    assertEquals(List.of(UserId.of(7L)), result.getMissingIds());
+    verify(userPort, times(1)).findAllById(anyCollection());
+  }
+
+  @Test
+  void shouldRejectLookupAboveMaximumSize() {
+    // Given
+    final var requested = LongStream.rangeClosed(1, UserService.MAX_LOOKUP_SIZE + 1).mapToObj(UserId::of).toList();
+
+    // When / Then
+    assertThrows(IllegalArgumentException.class, () -> userService.getUsersByIds(requested));
+    verifyNoInteractions(userPort);
+  }
+
+  @Test
+  void shouldAcceptLookupOfMaximumSize() {
+    // Given
+    final var requested = LongStream.rangeClosed(1, UserService.MAX_LOOKUP_SIZE).mapToObj(UserId::of).toList();
+    when(userPort.findAllById(anyCollection())).thenReturn(Collections.emptyList());
+
+    // When
+    final var result = userService.getUsersByIds(requested);
+
+    // Then
+    assertEquals(requested, result.getMissingIds());
+  }
+
+  private static User user(final long id, final String username) {
+    return User.builder().id(UserId.of(id)).username(username).email(username + "@example.com").build();
+  }
+}
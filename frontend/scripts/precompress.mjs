@@ -0,0 +1,37 @@
+// Writes .br and .gz next to every compressible file of a build, so the backend can serve
+// them as-is instead of compressing on each request.
+//
+// Usage: node scripts/precompress.mjs [dir]   (default: dist/frontend/browser)
+import { readdirSync, readFileSync, statSync, writeFileSync } from 'node:fs';
+import { extname, join } from 'node:path';
+import { brotliCompressSync, constants, gzipSync } from 'node:zlib';
+
+const COMPRESSIBLE = new Set(['.js', '.mjs', '.css', '.html', '.svg', '.json', '.txt', '.map', '.ico']);
+// Below this, headers dominate and compression saves next to nothing.
+const MIN_SIZE = 1024;
+
+function* files(dir) {
+  for (const entry of readdirSync(dir, { withFileTypes: true })) {
+    const path = join(dir, entry.name);
+    if (entry.isDirectory()) {
+      yield* files(path);
+    } else if (COMPRESSIBLE.has(extname(entry.name)) && statSync(path).size >= MIN_SIZE) {
+      yield path;
+    }
+  }
+}
+
+const root = process.argv[2] ?? 'dist/frontend/browser';
+let count = 0;
+for (const path of files(root)) {
+  const content = readFileSync(path);
+  writeFileSync(`${path}.gz`, gzipSync(content, { level: 9 }));
+  writeFileSync(`${path}.br`, brotliCompressSync(content, {
+    params: {
+      [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+      [constants.BROTLI_PARAM_SIZE_HINT]: content.length
+    }
+  }));
+  count++;
+}
+console.log(`Precompressed ${count} files in ${root}`);
@@ -1,15 +1,23 @@
+import { HttpHeaders, HttpResponse } from '@angular/common/http';
 import { TestBed } from '@angular/core/testing';
 import { of, Subject, throwError } from 'rxjs';
 import { UsersService, type User } from '@core/api';
 import { UsersPage } from './users.page';
 
+function page(users: User[], nextCursor?: number): HttpResponse<User[]> {
+  const headers = nextCursor === undefined
+    ? new HttpHeaders()
+    : new HttpHeaders({ 'X-Next-Cursor': String(nextCursor) });
+  return new HttpResponse({ body: users, headers });
+}
+
 describe('UsersPage', () => {
   it('loads users on init', async () => {
     const expectedUsers: User[] = [
       { id: 1, username: 'alice', email: 'alice@example.com' }
     ];
     const userServiceMock = {
-      listUsers: vi.fn().mockReturnValue(of(expectedUsers))
+      listUsers: vi.fn().mockReturnValue(of(page(expectedUsers)))
     };
 
     TestBed.configureTestingModule({
@@ -46,7 +54,7 @@ describe('UsersPage', () => {
   });
 
   it('renders loading state while users request is pending', () => {
-    const usersSubject = new Subject<User[]>();
+    const usersSubject = new Subject<HttpResponse<User[]>>();
     const userServiceMock = {
       listUsers: vi.fn().mockReturnValue(usersSubject.asObservable())
     };
@@ -66,7 +74,7 @@ describe('UsersPage', () => {
 
   it('reloads users after creating a user', async () => {
     const userServiceMock = {
-      listUsers: vi.fn().mockReturnValue(of([])),
+      listUsers: vi.fn().mockReturnValue(of(page([]))),
       createUser: vi.fn().mockReturnValue(of({ id: 1, username: 'alice', email: 'alice@example.com' }))
     };
 
@@ -86,4 +94,31 @@ describe('UsersPage', () => {
     expect(userServiceMock.createUser).toHaveBeenCalledTimes(1);
     expect(userServiceMock.listUsers).toHaveBeenCalledTimes(2);
   });
+
+  it('follows the next cursor when more users are requested', async () => {
+    const alice: User = { id: 1, username: 'alice', email: 'alice@example.com' };
+    const bob: User = { id: 2, username: 'bob', email: 'bob@example.com' };
+    const userServiceMock = {
+      listUsers: vi.fn()
+        .mockReturnValueOnce(of(page([alice], 1)))
+        .mockReturnValueOnce(of(page([bob])))
+    };
+
+    TestBed.configureTestingModule({
+      imports: [UsersPage],
+      providers: [{ provide: UsersService, useValue: userServiceMock }]
+    });
+
+    const fixture = TestBed.createComponent(UsersPage);
+    fixture.detectChanges();
+    await fixture.whenStable();
+    expect(fixture.componentInstance.hasMore()).toBe(true);
+
+    fixture.componentInstance.loadMore();
+    await fixture.whenStable();
+
+    expect(userServiceMock.listUsers).toHaveBeenLastCalledWith(1, 50, undefined, 'response');
+    expect(fixture.componentInstance.users()).toEqual([alice, bob]);
+    expect(fixture.componentInstance.hasMore()).toBe(false);
+  });
 });
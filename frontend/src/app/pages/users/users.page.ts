@@ -1,8 +1,13 @@
-import { ChangeDetectionStrategy, Component, computed, inject, signal } from '@angular/core';
+import { ChangeDetectionStrategy, Component, computed, DestroyRef, inject, signal } from '@angular/core';
+import { HttpResponse } from '@angular/common/http';
 import { rxResource } from '@angular/core/rxjs-interop';
+import { map } from 'rxjs';
 import {User, UsersService} from '@core/api';
 import {email, form, FormField, required} from '@angular/forms/signals';
 
+const PAGE_SIZE = 50;
+const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+
 /**
  * Users page component - Manage user profiles
  */
@@ -98,6 +103,17 @@ import {email, form, FormField, required} from '@angular/forms/signals';
               </div>
             }
           </div>
+          @if (hasMore()) {
+            <div class="text-center mt-8">
+              <button
+                (click)="loadMore()"
+                [disabled]="isLoadingMore()"
+                class="px-6 py-3 bg-white text-indigo-700 border border-indigo-600 rounded-lg hover:bg-indigo-50 transition-colors font-semibold disabled:opacity-60 disabled:cursor-not-allowed"
+              >
+                {{ isLoadingMore() ? 'Loading...' : 'Load more users' }}
+              </button>
+            </div>
+          }
         } @else {
           <div class="text-center py-12">
             <p class="text-gray-600 text-lg">No users yet. Create one to get started!</p>
@@ -110,9 +126,13 @@ import {email, form, FormField, required} from '@angular/forms/signals';
 })
 export class UsersPage {
   private readonly userService = inject(UsersService);
+  /** Cursor for the page after the loaded ones, from the X-Next-Cursor header; null on the last page. */
+  readonly nextCursor = signal<number | null>(null);
+  readonly isLoadingMore = signal(false);
   readonly usersResource = rxResource({
     defaultValue: [] as User[],
-    stream: () => this.userService.listUsers()
+    stream: () => this.userService.listUsers(undefined, PAGE_SIZE, undefined, 'response')
+      .pipe(map((response) => this.readPage(response)))
   });
   readonly users = computed(() => this.usersResource.hasValue() ? this.usersResource.value() : []);
   readonly isFormOpen = signal(false);
@@ -129,6 +149,11 @@ export class UsersPage {
   readonly isLoading = computed(() => this.usersResource.isLoading());
   readonly loadError = computed(() => this.usersResource.error());
   readonly hasUsers = computed(() => this.users().length > 0);
+  readonly hasMore = computed(() => this.nextCursor() !== null);
+
+  constructor() {
+    this.followChanges(inject(DestroyRef));
+  }
 
   showForm(): void {
     this.isFormOpen.set(true);
@@ -170,6 +195,65 @@ export class UsersPage {
     });
   }
 
+  /**
+   * Appends the next page of users. Users already shown, e.g. added by a change event, are
+   * skipped.
+   */
+  loadMore(): void {
+    const after = this.nextCursor();
+    if (after === null || this.isLoadingMore()) {
+      return;
+    }
+    this.isLoadingMore.set(true);
+    this.userService.listUsers(after, PAGE_SIZE, undefined, 'response').subscribe({
+      next: (response) => {
+        const page = this.readPage(response);
+        this.usersResource.update((users) => [
+          ...users,
+          ...page.filter((user) => !users.some((shown) => shown.id === user.id))
+        ]);
+        this.isLoadingMore.set(false);
+      },
+      error: (err) => {
+        console.error('Error loading more users:', err);
+        this.isLoadingMore.set(false);
+      }
+    });
+  }
+
+  /**
+   * Applies changes pushed by the server instead of re-fetching the list. Events are applied
+   * by id, so one that arrives after a reload already containing it changes nothing.
+   */
+  private followChanges(destroyRef: DestroyRef): void {
+    if (typeof EventSource === 'undefined') {
+      return;
+    }
+    const changes = new EventSource('/api/users/changes');
+    const upsert = (event: MessageEvent<string>) => {
+      const changed = JSON.parse(event.data) as User;
+      // Users are listed by id, so a user that is not shown yet belongs on a page not loaded yet,
+      // unless the last page is already shown.
+      this.usersResource.update((users) => users.some((user) => user.id === changed.id)
+        ? users.map((user) => user.id === changed.id ? changed : user)
+        : this.hasMore() ? users : [...users, changed]);
+    };
+    changes.addEventListener('created', upsert);
+    changes.addEventListener('updated', upsert);
+    changes.addEventListener('deleted', (event: MessageEvent<string>) => {
+      const { id } = JSON.parse(event.data) as User;
+      this.usersResource.update((users) => users.filter((user) => user.id !== id));
+    });
+    changes.addEventListener('resync', () => this.usersResource.reload());
+    destroyRef.onDestroy(() => changes.close());
+  }
+
+  private readPage(response: HttpResponse<User[]>): User[] {
+    const next = response.headers.get(NEXT_CURSOR_HEADER);
+    this.nextCursor.set(next === null ? null : Number(next));
+    return response.body ?? [];
+  }
+
   private resetForm(): void {
     this.formModel.set({ username: '', email: '' });
   }
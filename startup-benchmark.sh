@@ -0,0 +1,90 @@
+#!/usr/bin/env bash
+#
+# startup-benchmark.sh — Compare time-to-first-200 of the plain and startup-optimized images.
+#
+# Usage:
+#   ./startup-benchmark.sh [runs]
+#
+# Example:
+#   ./startup-benchmark.sh 10
+#
+# What it does:
+#   1. Builds the default image and the "optimized" target of the Dockerfile
+#   2. Starts each image [runs] times (default 5) on a free port
+#   3. Measures the time from `docker run` until GET /api/users first answers 200
+#   4. Prints min / median / max per image and writes startup-benchmark.json
+#
+# Prerequisites:
+#   - docker, curl, GNU date (for nanosecond timestamps)
+#
+set -euo pipefail
+
+# ─── Colors ──────────────────────────────────────────────────────────────────
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+CYAN='\033[0;36m'
+NC='\033[0m' # No Color
+
+# ─── Helpers ─────────────────────────────────────────────────────────────────
+
+die() { echo -e "${RED}ERROR: $*${NC}" >&2; exit 1; }
+info() { echo -e "${CYAN}→ $*${NC}"; }
+success() { echo -e "${GREEN}✓ $*${NC}"; }
+
+now_ms() { echo $(( $(date +%s%N) / 1000000 )); }
+
+# Starts the image once and prints the milliseconds until /api/users returned 200.
+time_to_first_200() {
+  local image="$1" port="$2" timeout_ms=120000
+  local start container
+  start=$(now_ms)
+  container=$(docker run -d --rm -p "${port}:8080" "$image")
+  until [[ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${port}/api/users" || true)" == "200" ]]; do
+    if (( $(now_ms) - start > timeout_ms )); then
+      docker rm -f "$container" > /dev/null
+      die "$image did not answer 200 within ${timeout_ms} ms"
+    fi
+    sleep 0.01
+  done
+  echo $(( $(now_ms) - start ))
+  docker rm -f "$container" > /dev/null
+}
+
+# Prints "min median max" of the given numbers.
+summarize() {
+  local sorted
+  sorted=$(printf '%s\n' "$@" | sort -n)
+  local count=$#
+  echo "$(echo "$sorted" | head -1) $(echo "$sorted" | sed -n "$(( (count + 1) / 2 ))p") $(echo "$sorted" | tail -1)"
+}
+
+# ─── Main ────────────────────────────────────────────────────────────────────
+
+RUNS="${1:-5}"
+[[ "$RUNS" =~ ^[1-9][0-9]*$ ]] || die "runs must be a positive number, got '$RUNS'"
+for tool in docker curl; do
+  command -v "$tool" > /dev/null || die "$tool is required"
+done
+
+cd "$(dirname "$0")"
+PORT=18080
+
+info "Building plain image"
+docker build -q -t project-name:plain . > /dev/null
+info "Building optimized image (Spring AOT + JDK AOT cache)"
+docker build -q --target optimized -t project-name:optimized . > /dev/null
+
+json="["
+for image in project-name:plain project-name:optimized; do
+  timings=()
+  for (( run = 1; run <= RUNS; run++ )); do
+    timings+=("$(time_to_first_200 "$image" "$PORT")")
+    info "$image run $run: ${timings[-1]} ms"
+  done
+  read -r min median max <<< "$(summarize "${timings[@]}")"
+  success "$image: min ${min} ms, median ${median} ms, max ${max} ms"
+  [[ "$json" == "[" ]] || json="${json},"
+  json="${json}{\"image\":\"${image}\",\"runs\":${RUNS},\"minMillis\":${min},\"medianMillis\":${median},\"maxMillis\":${max}}"
+done
+echo "${json}]" > startup-benchmark.json
+success "Results written to startup-benchmark.json"